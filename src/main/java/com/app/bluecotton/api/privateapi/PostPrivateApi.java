@@ -1,6 +1,7 @@
 package com.app.bluecotton.api.privateapi;
 
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
+import com.app.bluecotton.domain.dto.LikeResultDTO;
 import com.app.bluecotton.domain.dto.MemberResponseDTO;
 import com.app.bluecotton.domain.dto.post.*;
 import com.app.bluecotton.domain.vo.post.*;
@@ -60,10 +61,39 @@ public class PostPrivateApi {
             @AuthenticationPrincipal MemberResponseDTO currentUser
     ) {
         postDraftVO.setMemberId(currentUser.getId());
-        postService.registerDraft(postDraftVO);
+        Long draftId = postService.registerDraft(postDraftVO);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(ApiResponseDTO.of("임시 저장 완료"));
+                .body(ApiResponseDTO.of("임시 저장 완료", Map.of("draftId", draftId)));
+    }
+
+    // 임시저장 자동 저장 (에디터 입력 중 주기적으로 호출)
+    @PutMapping("/draft/autosave")
+    public ResponseEntity<ApiResponseDTO> autosaveDraft(
+            @RequestBody PostDraftVO postDraftVO,
+            @AuthenticationPrincipal MemberResponseDTO currentUser
+    ) {
+        postDraftVO.setMemberId(currentUser.getId());
+        PostDraftVO draft = postService.autosaveDraft(postDraftVO);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("자동 저장 완료", draft));
+    }
+
+    // 작업 중인 임시저장 조회 (솜별)
+    @GetMapping("/draft/autosave")
+    public ResponseEntity<ApiResponseDTO> getWorkingDraft(
+            @RequestParam(required = false) Long somId,
+            @AuthenticationPrincipal MemberResponseDTO currentUser
+    ) {
+        PostDraftVO draft = postService.getWorkingDraft(currentUser.getId(), somId);
+        if (draft == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponseDTO.of("자동 저장된 글 없음", null));
+        }
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(ApiResponseDTO.of("불러오기 성공", draft));
     }
 
     // 임시저장 조회
@@ -157,9 +187,9 @@ public class PostPrivateApi {
             @RequestBody Map<String, Long> payload,
             @AuthenticationPrincipal MemberResponseDTO currentUser
     ) {
-        postService.toggleLike(payload.get("postId"), currentUser.getId());
+        LikeResultDTO result = postService.toggleLike(payload.get("postId"), currentUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponseDTO.of("게시글 좋아요 완료"));
+                .body(ApiResponseDTO.of("게시글 좋아요 완료", result));
     }
 
     // 댓글 좋아요 토글
@@ -168,9 +198,9 @@ public class PostPrivateApi {
             @RequestBody Map<String, Long> payload,
             @AuthenticationPrincipal MemberResponseDTO currentUser
     ) {
-        postService.toggleCommentLike(payload.get("commentId"), currentUser.getId());
+        LikeResultDTO result = postService.toggleCommentLike(payload.get("commentId"), currentUser.getId());
         return  ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponseDTO.of("댓글 좋아요 완료"));
+                .body(ApiResponseDTO.of("댓글 좋아요 완료", result));
     }
 
     // 답글 좋아요 토글
@@ -179,9 +209,9 @@ public class PostPrivateApi {
             @RequestBody Map<String, Long> payload,
             @AuthenticationPrincipal MemberResponseDTO currentUser
     ) {
-        postService.toggleReplyLike(payload.get("replyId"), currentUser.getId());
+        LikeResultDTO result = postService.toggleReplyLike(payload.get("replyId"), currentUser.getId());
         return  ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponseDTO.of("답글 좋아요 완료"));
+                .body(ApiResponseDTO.of("답글 좋아요 완료", result));
     }
 
     // 최근 본 글 추가
@@ -35,8 +35,8 @@ public class ShopApi {
     public ResponseEntity<ApiResponseDTO> toggleLike(@RequestBody Map<String, Long> toggle) {
         Long memberId = toggle.get("memberId");
         Long productId = toggle.get("productId");
-        shopService.toggleLike(memberId, productId);
-        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("찜하기 토글 성공"));
+        LikeResultDTO result = shopService.toggleLike(memberId, productId);
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("찜하기 토글 성공", result));
     }
 
 
@@ -1,9 +1,11 @@
 package com.app.bluecotton.api.publicapi;
 
 
+import com.app.bluecotton.config.TwoLevelCacheManager;
 import com.app.bluecotton.domain.dto.AdminDashboardOverviewDTO;
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
 import com.app.bluecotton.service.AdmindashboardService;
+import com.app.bluecotton.service.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -11,6 +13,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 @RestController
 @RequestMapping("/admin/dashboard/*")
 @RequiredArgsConstructor
@@ -18,6 +22,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminDashboardApi {
 
     private final AdmindashboardService admindashboardService;
+    private final TwoLevelCacheManager cacheManager;
+    private final PasswordHasher passwordHasher;
 
     @GetMapping("/overview")
     public ResponseEntity<ApiResponseDTO<AdminDashboardOverviewDTO>> getOverview() {
@@ -26,4 +32,16 @@ public class AdminDashboardApi {
                 ApiResponseDTO.of("대시보드 조회 성공", dto)
         );
     }
+
+    //  캐시 이름별 로컬 / Redis 적중 지표
+    @GetMapping("/cache-stats")
+    public ResponseEntity<ApiResponseDTO<Map<String, Map<String, Object>>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponseDTO.of("캐시 지표 조회 성공", cacheManager.getStats()));
+    }
+
+    //  비밀번호 해시 스레드 풀 지표
+    @GetMapping("/password-hash-stats")
+    public ResponseEntity<ApiResponseDTO<Map<String, Object>>> getPasswordHashStats() {
+        return ResponseEntity.ok(ApiResponseDTO.of("비밀번호 해시 지표 조회 성공", passwordHasher.getStats()));
+    }
 }
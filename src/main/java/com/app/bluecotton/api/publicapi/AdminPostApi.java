@@ -4,6 +4,7 @@ import com.app.bluecotton.domain.dto.AdminReportedPostDTO;
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
 import com.app.bluecotton.domain.dto.post.AdminPostDetailDTO;
 import com.app.bluecotton.domain.dto.post.AdminPostListDTO;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
 import com.app.bluecotton.service.AdminPostReportService;
 import com.app.bluecotton.service.AdminPostService;
 import lombok.RequiredArgsConstructor;
@@ -48,6 +49,20 @@ public class AdminPostApi {
         return ResponseEntity.status(HttpStatus.OK).body(body);
     }
 
+    //  게시글 일괄 삭제 (많으면 jobId 로 진행 상황 조회)
+    @PostMapping("delete")
+    public ResponseEntity<ApiResponseDTO<PostPurgeJobDTO>> deleteAll(@RequestBody List<Long> ids) {
+        PostPurgeJobDTO job = adminPostService.deleteAll(ids);
+        String message = "DONE".equals(job.getStatus()) ? "게시글 일괄 삭제 성공" : "게시글 일괄 삭제 작업 시작";
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of(message, job));
+    }
+
+    @GetMapping("delete/jobs/{jobId}")
+    public ResponseEntity<ApiResponseDTO<PostPurgeJobDTO>> getDeleteJob(@PathVariable String jobId) {
+        PostPurgeJobDTO job = adminPostService.getDeleteJob(jobId);
+        return ResponseEntity.ok(ApiResponseDTO.of("삭제 작업 조회 성공", job));
+    }
+
     @GetMapping("reported")
     public ResponseEntity<ApiResponseDTO<List<AdminReportedPostDTO>>> getReportedPosts() {
         List<AdminReportedPostDTO> list = adminPostReportService.getReportedPosts();
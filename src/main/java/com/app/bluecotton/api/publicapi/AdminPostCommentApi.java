@@ -3,6 +3,7 @@ package com.app.bluecotton.api.publicapi;
 
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
 import com.app.bluecotton.domain.dto.ReportedCommentDTO;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
 import com.app.bluecotton.service.AdminPostCommentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,6 +34,19 @@ public class AdminPostCommentApi {
                 .body(ApiResponseDTO.of("댓글 삭제 완료"));
     }
 
+    //  댓글 일괄 삭제 (많으면 jobId 로 진행 상황 조회)
+    @PostMapping("delete")
+    public ResponseEntity<ApiResponseDTO> deleteComments(@RequestBody List<Long> commentIds) {
+        PostPurgeJobDTO job = adminPostCommentService.deleteCommentsAsAdmin(commentIds);
+        String message = "DONE".equals(job.getStatus()) ? "댓글 일괄 삭제 완료" : "댓글 일괄 삭제 작업 시작";
+        return ResponseEntity.ok(ApiResponseDTO.of(message, job));
+    }
+
+    @GetMapping("delete/jobs/{jobId}")
+    public ResponseEntity<ApiResponseDTO> getDeleteJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(ApiResponseDTO.of("삭제 작업 조회 완료", adminPostCommentService.getDeleteJob(jobId)));
+    }
+
     @DeleteMapping("replies/{replyId}")
     public ResponseEntity<ApiResponseDTO> deleteReplies(@PathVariable Long replyId) {
         adminPostCommentService.deleteReplyAsAdmin(replyId);
@@ -0,0 +1,42 @@
+package com.app.bluecotton.api.publicapi;
+
+import com.app.bluecotton.domain.dto.ApiResponseDTO;
+import com.app.bluecotton.domain.dto.ReportCountDTO;
+import com.app.bluecotton.domain.vo.ReportTarget;
+import com.app.bluecotton.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/admin/reports/*")
+public class AdminReportApi {
+
+    private final ReportService reportService;
+
+    //  신고가 많은 순 (target : POST / COMMENT / REPLY / PRODUCT_REVIEW)
+    @GetMapping("ranking")
+    public ResponseEntity<ApiResponseDTO<List<ReportCountDTO>>> getMostReported(
+            @RequestParam ReportTarget target,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        List<ReportCountDTO> list = reportService.getMostReported(target, Math.min(limit, 100));
+        return ResponseEntity.ok(ApiResponseDTO.of("신고 많은 순 조회 성공", list));
+    }
+
+    //  지정한 대상들의 신고 수
+    @PostMapping("counts")
+    public ResponseEntity<ApiResponseDTO<Map<Long, Long>>> getReportCounts(
+            @RequestParam ReportTarget target,
+            @RequestBody List<Long> targetIds
+    ) {
+        Map<Long, Long> counts = reportService.getReportCounts(target, targetIds);
+        return ResponseEntity.ok(ApiResponseDTO.of("신고 수 조회 성공", counts));
+    }
+}
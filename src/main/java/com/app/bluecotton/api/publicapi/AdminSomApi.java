@@ -4,6 +4,7 @@ import com.app.bluecotton.domain.dto.AdminSomCheckDetailDTO;
 import com.app.bluecotton.domain.dto.AdminSomCheckResponseDTO;
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
 import com.app.bluecotton.service.AdminSomService;
+import com.app.bluecotton.service.SomDetailLoader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -20,6 +22,7 @@ import java.util.Optional;
 public class AdminSomApi {
 
     private final AdminSomService adminSomService;
+    private final SomDetailLoader somDetailLoader;
 
 
     @GetMapping("confirm")
@@ -59,4 +62,10 @@ public class AdminSomApi {
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("다건 인증 처리 완료"));
     }
 
+    //  솜 상세 조회 단계별 소요 시간
+    @GetMapping("read-metrics")
+    public ResponseEntity<ApiResponseDTO<Map<String, Map<String, Object>>>> getSomReadMetrics() {
+        return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("솜 상세 조회 지표 조회 성공", somDetailLoader.getLatencyStats()));
+    }
+
 }
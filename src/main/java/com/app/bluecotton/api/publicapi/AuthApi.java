@@ -6,7 +6,6 @@ import com.app.bluecotton.domain.vo.member.MemberVO;
 import com.app.bluecotton.service.AuthService;
 import com.app.bluecotton.service.MemberService;
 import com.app.bluecotton.service.SmsService;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -92,16 +91,15 @@ public class AuthApi {
 
     // 이메일로 인증코드 전송
     @PostMapping("/codes/email")
-    public ResponseEntity<ApiResponseDTO> sendAuthentificationCodeByEmail(String toEmail, HttpSession session) {
-        ApiResponseDTO response = smsService.sendAuthentificationCodeByEmail(toEmail, session);
+    public ResponseEntity<ApiResponseDTO> sendAuthentificationCodeByEmail(String toEmail) {
+        ApiResponseDTO response = smsService.sendAuthentificationCodeByEmail(toEmail);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
-    // 인증코드 확인
+    // 인증코드 확인 (코드를 받은 이메일과 함께)
     @PostMapping("/codes/verify")
-    public ResponseEntity<ApiResponseDTO> verifyAuthentificationCode(String userAuthentificationCode, HttpSession session) {
-        String authentificationCode = (String) session.getAttribute("authentificationCode");
-        boolean isVerified = authentificationCode != null && authentificationCode.equals(userAuthentificationCode);
+    public ResponseEntity<ApiResponseDTO> verifyAuthentificationCode(String toEmail, String userAuthentificationCode) {
+        boolean isVerified = smsService.verifyAuthentificationCode(toEmail, userAuthentificationCode);
 
         Map<String, Boolean> verified = new HashMap<>();
         verified.put("verified", isVerified);
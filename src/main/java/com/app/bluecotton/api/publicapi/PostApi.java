@@ -2,9 +2,11 @@ package com.app.bluecotton.api.publicapi;
 
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
 import com.app.bluecotton.domain.dto.MemberResponseDTO;
+import com.app.bluecotton.domain.dto.post.PostCommentDTO;
 import com.app.bluecotton.domain.dto.post.PostDetailDTO;
 import com.app.bluecotton.domain.dto.post.PostMainDTO;
-import com.app.bluecotton.domain.dto.post.PostNeighborDTO;
+import com.app.bluecotton.domain.dto.post.PostNeighborsDTO;
+import com.app.bluecotton.domain.dto.post.PostReplyDTO;
 import com.app.bluecotton.service.MemberService;
 import com.app.bluecotton.service.PostService;
 import com.app.bluecotton.util.JwtTokenUtil;
@@ -37,6 +39,8 @@ public class PostApi {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "9") int size,
             @RequestParam(required = false) Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal,
             @AuthenticationPrincipal MemberResponseDTO currentUser
     ) {
 
@@ -48,6 +52,34 @@ public class PostApi {
             effectiveMemberId = memberId;
         }
 
+        // cursor 파라미터가 오면 커서 방식 (첫 페이지는 cursor= 빈 값), 없으면 기존 offset 방식
+        if (cursor != null) {
+            Map<String, Object> result = postService.getPostsByCursor(
+                    somCategory,
+                    orderType,
+                    effectiveMemberId,
+                    q,
+                    cursor,
+                    size
+            );
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(ApiResponseDTO.of("게시글 목록 조회 완료", result));
+        }
+
+        // withTotal=false 면 전체 개수를 세지 않고 다음 페이지 여부만 내려준다
+        if (!withTotal) {
+            Map<String, Object> result = postService.getPostsWithHasNext(
+                    somCategory,
+                    orderType,
+                    effectiveMemberId,
+                    q,
+                    page,
+                    size
+            );
+            return ResponseEntity.status(HttpStatus.OK)
+                    .body(ApiResponseDTO.of("게시글 목록 조회 완료", result));
+        }
+
         // 페이징된 게시글 목록 조회
         List<PostMainDTO> posts = postService.getPosts(
                 somCategory,
@@ -76,23 +108,7 @@ public class PostApi {
             @RequestHeader(value = "Authorization", required = false) String authHeader
     ) {
 
-        Long memberId = 0L;
-
-
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-
-
-            Claims claims = jwtTokenUtil.getMemberEmailFromToken(token);
-
-            if (claims != null) {
-                String email = claims.get("memberEmail", String.class);
-
-
-                memberId = memberService.getMemberIdByMemberEmail(email);
-            }
-        }
-
+        Long memberId = resolveMemberId(authHeader);
 
         PostDetailDTO post = postService.getPost(id, memberId);
 
@@ -102,17 +118,54 @@ public class PostApi {
         }
 
 
-        PostNeighborDTO prev = postService.getPrevPost(id);
-        PostNeighborDTO next = postService.getNextPost(id);
-
+        // 이전글 / 다음글은 Redis 색인에서 한 번에 (DB 조회 없음)
+        PostNeighborsDTO neighbors = postService.getNeighbors(id);
 
         Map<String, Object> result = new HashMap<>();
         result.put("post", post);
-        result.put("prev", prev);
-        result.put("next", next);
+        result.put("prev", neighbors.getPrev());
+        result.put("next", neighbors.getNext());
 
         return ResponseEntity.ok(ApiResponseDTO.of("조회 성공", result));
     }
 
+    // 댓글 페이지 조회 (댓글이 많은 게시글용)
+    @GetMapping("/read/{id}/comments")
+    public ResponseEntity<ApiResponseDTO<List<PostCommentDTO>>> readComments(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "Authorization", required = false) String authHeader
+    ) {
+        List<PostCommentDTO> comments = postService.getCommentPage(id, resolveMemberId(authHeader), page, size);
+        return ResponseEntity.ok(ApiResponseDTO.of("댓글 조회 성공", comments));
+    }
+
+    // 댓글의 답글 조회
+    @GetMapping("/comment/{commentId}/replies")
+    public ResponseEntity<ApiResponseDTO<List<PostReplyDTO>>> readReplies(
+            @PathVariable Long commentId,
+            @RequestHeader(value = "Authorization", required = false) String authHeader
+    ) {
+        List<PostReplyDTO> replies = postService.getReplies(commentId, resolveMemberId(authHeader));
+        return ResponseEntity.ok(ApiResponseDTO.of("답글 조회 성공", replies));
+    }
+
+    // Authorization 헤더의 토큰으로 회원 ID 조회 (비로그인 0)
+    private Long resolveMemberId(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return 0L;
+        }
+
+        String token = authHeader.substring(7);
+        Claims claims = jwtTokenUtil.getMemberEmailFromToken(token);
+        if (claims == null) {
+            return 0L;
+        }
+
+        String email = claims.get("memberEmail", String.class);
+        return memberService.getMemberIdByMemberEmail(email);
+    }
+
 
 }
\ No newline at end of file
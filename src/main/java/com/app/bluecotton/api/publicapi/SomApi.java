@@ -56,7 +56,8 @@ public class SomApi {
             @RequestParam(defaultValue = "all") String somType,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "") String memberEmail,
-            @RequestParam(defaultValue = "") String somKeyword
+            @RequestParam(defaultValue = "") String somKeyword,
+            @RequestParam(defaultValue = "true") boolean withTotal
     ) {
         Map<String, Object> params = new HashMap<>();
         Map<String, Object> resultData = new HashMap<>();
@@ -71,6 +72,10 @@ public class SomApi {
         } else {
             message = "솜을 조건에 맞게 분류하여 불러왔습니다.";
         }
+        //  withTotal=false 면 전체 페이지 수를 세지 않고 다음 페이지 여부만 내려준다
+        if (!withTotal) {
+            return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of(message, somService.findByCategoryAndTypeWithHasNext(params)));
+        }
         List<SomResponseDTO> listData = somService.findByCategoryAndType(params);
         Integer maxPage = somService.selectSomMaxPage(params);
         resultData.put("somList", listData);
@@ -80,9 +85,12 @@ public class SomApi {
 
     //  솜 전체 조회
     @GetMapping("all")
-    public ResponseEntity<ApiResponseDTO> getAllSom() {
-        List<SomResponseDTO> data = somService.findAllSom();
-        log.info("data={}", data);
+    public ResponseEntity<ApiResponseDTO> getAllSom(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        //  page 를 넘기면 페이지 단위로, 생략하면 기존처럼 전체를 조회
+        List<SomResponseDTO> data = page == null ? somService.findAllSom() : somService.findAllSom(page, size);
         return ResponseEntity.status(HttpStatus.OK).body(ApiResponseDTO.of("솜 전체를 조회했습니다", data));
     }
 
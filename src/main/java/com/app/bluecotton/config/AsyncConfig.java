@@ -0,0 +1,82 @@
+package com.app.bluecotton.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// 요청 스레드 밖에서 실행할 작업용 스레드 풀
+@Configuration
+public class AsyncConfig {
+
+    //  솜 상세 조회 병렬 조회용 (큐가 가득 차면 요청 스레드에서 직접 실행)
+    //  조회마다 DB 연결을 하나씩 쓰므로 커넥션 풀의 절반을 넘지 않게 (나머지는 요청 스레드용)
+    @Bean(name = "somReadExecutor")
+    public ThreadPoolTaskExecutor somReadExecutor(
+            HikariConfig hikariConfig,
+            @Value("${som.read.pool-size:16}") int poolSize,
+            @Value("${som.read.queue-capacity:200}") int queueCapacity
+    ) {
+        //  설정하지 않으면 -1 (HikariCP 기본값 10 이 적용된다)
+        int maximumPoolSize = hikariConfig.getMaximumPoolSize() > 0 ? hikariConfig.getMaximumPoolSize() : 10;
+        int threads = Math.max(1, Math.min(poolSize, maximumPoolSize / 2));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("som-read-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    //  관리자 일괄 삭제 작업용 (DB 부하를 고려해 한 번에 하나씩)
+    @Bean(name = "postPurgeExecutor")
+    public ThreadPoolTaskExecutor postPurgeExecutor(
+            @Value("${post.purge.queue-capacity:20}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("post-purge-");
+        executor.initialize();
+        return executor;
+    }
+
+    //  메일 발송용 (SMTP 대기가 대부분이라 적게, 가득 차면 대기열에 되돌린다)
+    @Bean(name = "mailSendExecutor")
+    public ThreadPoolTaskExecutor mailSendExecutor(
+            @Value("${mail.outbox.pool-size:4}") int poolSize,
+            @Value("${mail.outbox.queue-capacity:8}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    //  비밀번호 해시용 (CPU 작업이라 코어 수만큼, 큐가 가득 차면 거절)
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${security.password.hash.pool-size:0}") int poolSize,
+            @Value("${security.password.hash.queue-capacity:100}") int queueCapacity
+    ) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,5 +1,6 @@
 package com.app.bluecotton.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -7,9 +8,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class BcryptConfig {
-//    Bcrypt
+//    Bcrypt (비용을 올리면 기존 회원은 다음 로그인 때 다시 해시된다)
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength){
+        return new BCryptPasswordEncoder(strength);
     }
 }
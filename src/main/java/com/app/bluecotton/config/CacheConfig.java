@@ -1,23 +1,62 @@
 package com.app.bluecotton.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    //  목록 전체 개수 캐시 (필터 조합별)
+    public static final String POST_COUNT_CACHE = "postCount";
+    public static final String SOM_MAX_PAGE_CACHE = "somMaxPage";
+    //  회원 프로필 사진 (회원 ID)
+    public static final String MEMBER_PROFILE_CACHE = "memberProfile";
+    //  상품 상세 정보 (상품 ID)
+    public static final String PRODUCT_DETAIL_CACHE = "productDetail";
+    //  로그인 회원 조회 (이메일 → 회원 ID, 회원 ID → 회원 정보) - JwtAuthenticationFilter 에서 요청마다 사용
+    public static final String MEMBER_ID_CACHE = "memberId";
+    public static final String MEMBER_PRINCIPAL_CACHE = "memberPrincipal";
+
+    @Value("${cache.list-count.ttl-seconds:60}")
+    private long listCountTtlSeconds;
+
+    @Value("${cache.member-profile.ttl-seconds:1800}")
+    private long memberProfileTtlSeconds;
+
+    @Value("${cache.product-detail.ttl-seconds:600}")
+    private long productDetailTtlSeconds;
+
+    //  토큰 검증은 요청마다 하므로 만료된 토큰이 캐시로 인증되지는 않는다 (회원 정보 최신성만 좌우)
+    @Value("${cache.member.ttl-seconds:300}")
+    private long memberTtlSeconds;
+
+    //  로컬 캐시는 다른 서버의 변경 알림을 놓쳐도 오래 틀리지 않도록 짧게 (Redis TTL 보다 길지 않게)
+    @Value("${cache.local.ttl-seconds:30}")
+    private long localTtlSeconds;
+
+    @Value("${cache.local.max-size:10000}")
+    private long localMaxSize;
+
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory, RedisTemplate<String, String> redisTemplate) {
 
         // 1. Key Serializer 설정 (String)
         StringRedisSerializer keySerializer = new StringRedisSerializer();
@@ -34,8 +73,41 @@ public class CacheConfig {
                 .entryTtl(Duration.ofMinutes(10))  // 캐시 TTL 설정
                 .disableCachingNullValues();
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
-                .build();
+        // 캐시 이름별 Redis TTL
+        Map<String, Duration> ttls = new HashMap<>();
+        // 개수 캐시는 짧게 두고, 등록/삭제 시 비운다
+        ttls.put(POST_COUNT_CACHE, Duration.ofSeconds(listCountTtlSeconds));
+        ttls.put(SOM_MAX_PAGE_CACHE, Duration.ofSeconds(listCountTtlSeconds));
+        ttls.put(MEMBER_PROFILE_CACHE, Duration.ofSeconds(memberProfileTtlSeconds));
+        ttls.put(PRODUCT_DETAIL_CACHE, Duration.ofSeconds(productDetailTtlSeconds));
+        ttls.put(MEMBER_ID_CACHE, Duration.ofSeconds(memberTtlSeconds));
+        ttls.put(MEMBER_PRINCIPAL_CACHE, Duration.ofSeconds(memberTtlSeconds));
+
+        // allEntries 비우기를 KEYS 대신 SCAN 으로
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000));
+
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(cacheWriter).cacheDefaults(config);
+        ttls.forEach((name, ttl) -> builder.withCacheConfiguration(name, config.entryTtl(ttl)));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 로컬 TTL 은 Redis TTL 을 넘지 않게 (로컬 값도 같은 JSON 직렬화로 복사해 둔다)
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        Map<String, Duration> localTtls = new HashMap<>();
+        ttls.forEach((name, ttl) -> localTtls.put(name, ttl.compareTo(localTtl) < 0 ? ttl : localTtl));
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager, redisTemplate, jsonSerializer, localTtls, localTtl, localMaxSize);
+        // 트랜잭션 안에서의 저장/비우기는 커밋 이후에 반영 (다른 서버 알림도 커밋 후)
+        cacheManager.setTransactionAware(true);
+        return cacheManager;
+    }
+
+    //  다른 서버의 캐시 변경 알림 수신
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory, TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,13 @@
 package com.app.bluecotton.config;
 
+import com.app.bluecotton.service.SearchIndexServiceImpl;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 // Key와 Value, Hash Key와 Value를 모두 UTF-8 문자열로 직렬화하는 RedisTemplate 생성
@@ -23,4 +26,13 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    //  다른 서버의 검색 색인 변경 알림 수신
+    @Bean
+    public RedisMessageListenerContainer searchIndexListenerContainer(RedisConnectionFactory connectionFactory, SearchIndexServiceImpl searchIndexService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(searchIndexService, new ChannelTopic(SearchIndexServiceImpl.CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,253 @@
+package com.app.bluecotton.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+//  로컬(Caffeine) → Redis 순으로 찾는 캐시
+//  Redis 에서 찾은 값은 로컬에 올려 두고, 저장 / 삭제는 두 곳에 반영한 뒤 다른 서버의 로컬 값을 지우도록 알린다
+//  Redis 장애 시에는 캐시가 없는 것처럼 동작한다 (원래 메서드 실행)
+//  로컬에는 Redis 와 같은 직렬화 바이트를 두고 꺼낼 때마다 새 객체로 만든다
+//  (@Data DTO 를 호출한 쪽에서 고쳐도 다른 요청이 받는 캐시 값은 그대로 - 문자열 / 숫자 같은 불변 값은 그대로 둔다)
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final RedisSerializer<Object> serializer;
+    private final TwoLevelCacheManager cacheManager;
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteErrors = new LongAdder();
+
+    public TwoLevelCache(
+            String name,
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+            Cache remote,
+            RedisSerializer<Object> serializer,
+            TwoLevelCacheManager cacheManager
+    ) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.serializer = serializer;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object stored = local.getIfPresent(localKey);
+        if (stored != null) {
+            Object value = restore(localKey, stored);
+            if (value != null) {
+                return new SimpleValueWrapper(value);
+            }
+        }
+        Object remoteValue = getRemote(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        putLocal(localKey, remoteValue);
+        return new SimpleValueWrapper(remoteValue);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입 불일치: " + name + " " + key + " " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        //  같은 서버에서 동시에 같은 키를 찾으면 한 번만 불러온다 (sync = true)
+        //  불러온 스레드는 불러온 객체를 그대로 받고, 기다린 스레드는 로컬 값에서 새로 만든 객체를 받는다
+        String localKey = localKey(key);
+        Object[] loadedValue = new Object[1];
+        Object stored = local.get(localKey, (ignored) -> {
+            Object value = getRemote(key);
+            if (value == null) {
+                try {
+                    value = valueLoader.call();
+                } catch (Exception e) {
+                    throw new ValueRetrievalException(key, valueLoader, e);
+                }
+                if (value == null) {
+                    return null;
+                }
+                putRemote(key, value);
+            }
+            loadedValue[0] = value;
+            return snapshot(localKey, value);
+        });
+        if (loadedValue[0] != null) {
+            return (T) loadedValue[0];
+        }
+        if (stored == null) {
+            return null;
+        }
+        Object value = restore(localKey, stored);
+        //  깨진 로컬 값은 restore 에서 지웠으므로 다시 불러온다
+        return value != null ? (T) value : get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        String localKey = localKey(key);
+        putRemote(key, value);
+        putLocal(localKey, value);
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        try {
+            remote.evict(key);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 삭제 실패: {} {}", name, key, e);
+        }
+        local.invalidate(localKey);
+        cacheManager.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            remote.clear();
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 비우기 실패: {}", name, e);
+        }
+        local.invalidateAll();
+        cacheManager.publishClear(name);
+    }
+
+    //  다른 서버에서 바뀐 값 - 로컬만 지운다
+    void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    //  로컬 적중 / 실패 / 제거 수 + Redis 적중 / 실패 / 오류 수
+    Map<String, Object> getStats() {
+        CacheStats stats = local.stats();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("localSize", local.estimatedSize());
+        map.put("localHits", stats.hitCount());
+        map.put("localMisses", stats.missCount());
+        map.put("localHitRate", stats.hitRate());
+        map.put("localEvictions", stats.evictionCount());
+        map.put("remoteHits", remoteHits.sum());
+        map.put("remoteMisses", remoteMisses.sum());
+        map.put("remoteErrors", remoteErrors.sum());
+        return map;
+    }
+
+    private Object getRemote(Object key) {
+        try {
+            ValueWrapper wrapper = remote.get(key);
+            Object value = wrapper == null ? null : wrapper.get();
+            (value == null ? remoteMisses : remoteHits).increment();
+            return value;
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 조회 실패: {} {}", name, key, e);
+            return null;
+        }
+    }
+
+    private void putRemote(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (Exception e) {
+            remoteErrors.increment();
+            log.warn("Redis 캐시 저장 실패: {} {}", name, key, e);
+        }
+    }
+
+    private void putLocal(String localKey, Object value) {
+        Object stored = snapshot(localKey, value);
+        if (stored != null) {
+            local.put(localKey, stored);
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    //  로컬에 둘 형태 - 불변 값은 그대로, 나머지는 직렬화 바이트 (직렬화 실패 시 null, 로컬에 두지 않음)
+    private Object snapshot(String localKey, Object value) {
+        if (isImmutable(value)) {
+            return value;
+        }
+        try {
+            return new Snapshot(serializer.serialize(value));
+        } catch (Exception e) {
+            log.warn("로컬 캐시 직렬화 실패: {} {}", name, localKey, e);
+            return null;
+        }
+    }
+
+    //  로컬 값을 새 객체로 (역직렬화 실패 시 로컬 값을 지우고 null)
+    private Object restore(String localKey, Object stored) {
+        if (!(stored instanceof Snapshot snapshot)) {
+            return stored;
+        }
+        try {
+            return serializer.deserialize(snapshot.bytes());
+        } catch (Exception e) {
+            log.warn("로컬 캐시 역직렬화 실패: {} {}", name, localKey, e);
+            local.invalidate(localKey);
+            return null;
+        }
+    }
+
+    private boolean isImmutable(Object value) {
+        return value instanceof String
+                || value instanceof Long
+                || value instanceof Integer
+                || value instanceof Boolean
+                || value instanceof Enum<?>;
+    }
+
+    private record Snapshot(byte[] bytes) {
+    }
+
+    //  RedisCache 키와 같은 문자열 표현
+    private String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,119 @@
+package com.app.bluecotton.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+//  캐시 이름별로 로컬(Caffeine) + Redis 2단 캐시를 만든다
+//  로컬 값은 서버마다 따로 있으므로 저장 / 삭제 때 Redis pub/sub 으로 다른 서버에 알려 로컬 값을 지우게 한다
+//  알림을 놓쳐도 로컬 TTL 이 지나면 Redis 값으로 맞춰진다
+@Slf4j
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    //  메시지 : 서버ID \t 캐시 이름 \t E(키 삭제) | C(전체 비우기) \t 키
+    private static final String SEPARATOR = "\t";
+
+    private final RedisCacheManager redisCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisSerializer<Object> valueSerializer;
+    private final Map<String, Duration> localTtls;
+    private final Duration defaultLocalTtl;
+    private final long localMaxSize;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(
+            RedisCacheManager redisCacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            RedisSerializer<Object> valueSerializer,
+            Map<String, Duration> localTtls,
+            Duration defaultLocalTtl,
+            long localMaxSize
+    ) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.valueSerializer = valueSerializer;
+        this.localTtls = localTtls;
+        this.defaultLocalTtl = defaultLocalTtl;
+        this.localMaxSize = localMaxSize;
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return redisCacheManager.getCacheNames().stream().map(this::createCache).toList();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return createCache(name);
+    }
+
+    //  캐시 이름별 로컬 / Redis 적중 지표
+    public Map<String, Map<String, Object>> getStats() {
+        Map<String, Map<String, Object>> stats = new TreeMap<>();
+        twoLevelCaches.forEach((name, cache) -> stats.put(name, cache.getStats()));
+        return stats;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = twoLevelCaches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        if ("C".equals(parts[2])) {
+            cache.clearLocal();
+        } else if (parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    void publishEvict(String cacheName, String localKey) {
+        publish(String.join(SEPARATOR, nodeId, cacheName, "E", localKey));
+    }
+
+    void publishClear(String cacheName) {
+        publish(String.join(SEPARATOR, nodeId, cacheName, "C"));
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 알림 실패 (다른 서버는 로컬 TTL 후 반영): {}", message, e);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        return twoLevelCaches.computeIfAbsent(name, (key) -> {
+            Duration localTtl = localTtls.getOrDefault(name, defaultLocalTtl);
+            com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+                    .maximumSize(localMaxSize)
+                    .expireAfterWrite(localTtl)
+                    .recordStats()
+                    .build();
+            return new TwoLevelCache(name, local, redisCacheManager.getCache(name), valueSerializer, this);
+        });
+    }
+}
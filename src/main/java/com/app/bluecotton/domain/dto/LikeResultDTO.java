@@ -0,0 +1,14 @@
+package com.app.bluecotton.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//  좋아요 상태 (현재 회원의 좋아요 여부 + 전체 좋아요 수)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LikeResultDTO {
+    private boolean liked;
+    private long likeCount;
+}
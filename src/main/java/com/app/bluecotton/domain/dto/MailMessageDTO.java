@@ -0,0 +1,23 @@
+package com.app.bluecotton.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+//  메일 발송 대기열에 넣는 메일 (id = 같은 내용의 메일도 구분하기 위한 값, attempts = 실패한 횟수)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MailMessageDTO {
+    private String id;
+    private String to;
+    private String subject;
+    private String text;
+    private int attempts;
+
+    public static MailMessageDTO of(String to, String subject, String text) {
+        return new MailMessageDTO(UUID.randomUUID().toString(), to, subject, text, 0);
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.bluecotton.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//  신고 대상별 신고 수 (관리자 신고 처리 목록)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReportCountDTO {
+    private Long targetId;
+    private long reportCount;
+}
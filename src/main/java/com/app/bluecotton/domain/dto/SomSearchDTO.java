@@ -0,0 +1,13 @@
+package com.app.bluecotton.domain.dto;
+
+import lombok.Data;
+
+//  솜 검색 색인용
+@Data
+public class SomSearchDTO {
+    private Long id;
+    private String somTitle;
+    private String somContent;
+    private String somCategory;
+    private String somType;
+}
@@ -0,0 +1,57 @@
+package com.app.bluecotton.domain.dto.post;
+
+import com.app.bluecotton.exception.PostException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+//  게시글 목록 커서 (마지막으로 받은 행의 정렬값 + ID)
+//  클라이언트에는 "정렬:정렬값:ID" 를 Base64 로 감싼 불투명한 문자열로만 내려준다
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostFeedCursor {
+    private String orderType;
+    //  view / popular / comment 정렬값
+    private Long sortKey;
+    //  latest 정렬값
+    private Date createAt;
+    private Long id;
+
+    public static String encode(String orderType, PostMainDTO last) {
+        long sortKey = switch (orderType) {
+            case "view" -> toLong(last.getPostReadCount());
+            case "popular" -> toLong(last.getPostLikeCount());
+            case "comment" -> toLong(last.getPostCommentCount());
+            default -> last.getPostCreateAt().getTime();
+        };
+        String raw = orderType + ":" + sortKey + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostFeedCursor decode(String cursor, String orderType) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !parts[0].equals(orderType)) {
+                throw new PostException("잘못된 커서입니다.");
+            }
+            long sortKey = Long.parseLong(parts[1]);
+            Long id = Long.valueOf(parts[2]);
+            if ("view".equals(orderType) || "popular".equals(orderType) || "comment".equals(orderType)) {
+                return new PostFeedCursor(orderType, sortKey, null, id);
+            }
+            return new PostFeedCursor(orderType, null, new Date(sortKey), id);
+        } catch (IllegalArgumentException e) {
+            throw new PostException("잘못된 커서입니다.");
+        }
+    }
+
+    private static long toLong(Integer value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.bluecotton.domain.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+//  이전글 / 다음글 (없으면 null)
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostNeighborsDTO {
+    private PostNeighborDTO prev;
+    private PostNeighborDTO next;
+}
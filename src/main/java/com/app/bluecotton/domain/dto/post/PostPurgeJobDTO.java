@@ -0,0 +1,20 @@
+package com.app.bluecotton.domain.dto.post;
+
+import lombok.Data;
+
+import java.util.Date;
+
+//  게시글 / 댓글 일괄 삭제 작업 진행 상황 (Redis 해시에서 읽어 채움)
+@Data
+public class PostPurgeJobDTO {
+    private String jobId;
+    //  POST / COMMENT
+    private String targetType;
+    //  RUNNING / DONE / FAILED
+    private String status;
+    private int totalCount;
+    private int processedCount;
+    private String errorMessage;
+    private Date startedAt;
+    private Date finishedAt;
+}
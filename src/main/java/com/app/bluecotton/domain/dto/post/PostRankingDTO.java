@@ -0,0 +1,13 @@
+package com.app.bluecotton.domain.dto.post;
+
+import lombok.Data;
+
+//  게시글 랭킹 재구성용 (조회수 / 좋아요 / 댓글 수)
+@Data
+public class PostRankingDTO {
+    private Long id;
+    private String somCategory;
+    private Long postReadCount;
+    private Long postLikeCount;
+    private Long postCommentCount;
+}
@@ -14,6 +14,7 @@ public class PostReplyDTO {
     private String postReplyContent;
     private Date postReplyCreateAt;
     private Long postReplyLikeCount;
+    private Long postCommentId;
 
     private Long memberId;
     private String memberNickname;
@@ -0,0 +1,14 @@
+package com.app.bluecotton.domain.dto.post;
+
+import lombok.Data;
+
+//  게시글 검색 색인용
+@Data
+public class PostSearchDTO {
+    private Long id;
+    private String postTitle;
+    private String postContent;
+    private String memberNickname;
+    private String somTitle;
+    private String somCategory;
+}
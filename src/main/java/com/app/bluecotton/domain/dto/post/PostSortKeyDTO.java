@@ -0,0 +1,10 @@
+package com.app.bluecotton.domain.dto.post;
+
+import lombok.Data;
+
+//  검색 결과 정렬용 (게시글 ID + 조회수 / 좋아요 수 / 댓글 수)
+@Data
+public class PostSortKeyDTO {
+    private Long id;
+    private Long sortKey;
+}
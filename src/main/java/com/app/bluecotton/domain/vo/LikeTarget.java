@@ -0,0 +1,22 @@
+package com.app.bluecotton.domain.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//  좋아요 대상 (좋아요 테이블 / 대상 컬럼 / 시퀀스 / 대상 테이블)
+//  likeMapper.xml 에서 ${} 로 들어가므로 값은 여기 상수로만 정의한다
+@Getter
+@RequiredArgsConstructor
+public enum LikeTarget {
+
+    POST("TBL_POST_LIKE", "POST_ID", "SEQ_POST_LIKE", "TBL_POST"),
+    COMMENT("TBL_POST_COMMENT_LIKE", "POST_COMMENT_ID", "SEQ_POST_COMMENT_LIKE", "TBL_POST_COMMENT"),
+    REPLY("TBL_POST_REPLY_LIKE", "POST_REPLY_ID", "SEQ_POST_REPLY_LIKE", "TBL_POST_REPLY"),
+    SOM("TBL_SOM_LIKE", "SOM_ID", "SEQ_SOM_LIKE", "TBL_SOM"),
+    PRODUCT("TBL_PRODUCT_LIKE", "PRODUCT_ID", "SEQ_PRODUCT_LIKE", "TBL_PRODUCT");
+
+    private final String likeTable;
+    private final String targetColumn;
+    private final String sequence;
+    private final String targetTable;
+}
@@ -0,0 +1,8 @@
+package com.app.bluecotton.domain.vo;
+
+//  Refresh 토큰 확인 결과 (블랙리스트 + 저장된 토큰 비교를 한 번에)
+public enum RefreshTokenStatus {
+    VALID,
+    BLACKLISTED,
+    MISMATCH
+}
@@ -0,0 +1,19 @@
+package com.app.bluecotton.domain.vo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+//  신고 대상 (신고 테이블 / 대상 컬럼)
+//  reportMapper.xml 에서 ${} 로 들어가므로 값은 여기 상수로만 정의한다
+@Getter
+@RequiredArgsConstructor
+public enum ReportTarget {
+
+    POST("TBL_POST_REPORT", "POST_ID"),
+    COMMENT("TBL_POST_COMMENT_REPORT", "POST_COMMENT_ID"),
+    REPLY("TBL_POST_REPLY_REPORT", "POST_REPLY_ID"),
+    PRODUCT_REVIEW("TBL_PRODUCT_REVIEW_REPORT", "PRODUCT_REVIEW_ID");
+
+    private final String reportTable;
+    private final String targetColumn;
+}
@@ -4,8 +4,22 @@ import lombok.*;
 
 @Data
 public class SomImageVO {
+
+    // 솜 이미지가 없을 때 사용하는 기본 이미지
+    public static final String DEFAULT_SOM_IMAGE_PATH =
+            "https://image-server.ideaflow.co.kr/uploads/som/2025/11/10/default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png";
+    public static final String DEFAULT_SOM_IMAGE_NAME = "default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png";
+
     private Long id;
     private String somImagePath;
     private String somImageName;
     private Long somId;
+
+    public static SomImageVO ofDefault(Long somId) {
+        SomImageVO somImageVO = new SomImageVO();
+        somImageVO.setSomImagePath(DEFAULT_SOM_IMAGE_PATH);
+        somImageVO.setSomImageName(DEFAULT_SOM_IMAGE_NAME);
+        somImageVO.setSomId(somId);
+        return somImageVO;
+    }
 }
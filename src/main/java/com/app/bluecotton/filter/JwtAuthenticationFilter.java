@@ -1,8 +1,10 @@
 package com.app.bluecotton.filter;
 
 import com.app.bluecotton.domain.dto.MemberResponseDTO;
+import com.app.bluecotton.exception.MemberException;
 import com.app.bluecotton.service.MemberService;
 import com.app.bluecotton.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,24 +37,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String header = request.getHeader("Authorization");
-        String jwtToken = null;
         String memberEmail = null;
 
-        //  헤더에 심어져있는 email를 가져온다
+        //  헤더에 심어져있는 email를 가져온다 (검증 + 파싱 한 번, 만료 / 변조면 null)
         if (header != null && header.startsWith("Bearer ")) {
-            jwtToken = header.substring(7);
-            if(jwtTokenUtil.verifyJwtToken((jwtToken))){
-                memberEmail = (String)jwtTokenUtil.getMemberEmailFromToken(jwtToken).get("memberEmail");
-
+            Claims claims = jwtTokenUtil.getMemberEmailFromToken(header.substring(7));
+            if(claims != null){
+                memberEmail = (String)claims.get("memberEmail");
             }
         }
+        //  회원 조회는 캐시 (로컬 → Redis → DB), 회원 수정 / 탈퇴 때 비워진다
         if(memberEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            Long memberId = memberService.getMemberIdByMemberEmail(memberEmail);
-            MemberResponseDTO foundMember = memberService.getMemberById(memberId);
-
-            if(jwtTokenUtil.verifyJwtToken((jwtToken))){
-                UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(foundMember,null, List.of());
-                SecurityContextHolder.getContext().setAuthentication(auth);
+            try {
+                Long memberId = memberService.getMemberIdByMemberEmail(memberEmail);
+                if(memberId != null){
+                    MemberResponseDTO foundMember = memberService.getMemberById(memberId);
+                    UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(foundMember,null, List.of());
+                    SecurityContextHolder.getContext().setAuthentication(auth);
+                }
+            } catch (MemberException e) {
+                //  탈퇴한 회원의 토큰 - 인증 없이 진행 (보안 설정에서 거절)
+                log.debug("토큰 회원 조회 실패: {}", memberEmail);
             }
         }
 
@@ -3,6 +3,7 @@ package com.app.bluecotton.mapper;
 import com.app.bluecotton.domain.vo.shop.ProductImageVO;
 import com.app.bluecotton.domain.vo.shop.ProductVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -23,5 +24,7 @@ public interface AdminProductMapper {
 
     public void insertProductImage(ProductImageVO imageVO);
 
+    public void insertProductImages(@Param("images") List<ProductImageVO> images);
+
     public void deleteImagesByProductId(Long productId);
 }
@@ -0,0 +1,14 @@
+package com.app.bluecotton.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface FlushBatchMapper {
+
+    //  반영용 해시의 마지막 반영 묶음 ID
+    public String selectBatchId(String flushKey);
+
+    //  반영 묶음 ID 기록
+    public void upsertBatchId(@Param("flushKey") String flushKey, @Param("batchId") String batchId);
+}
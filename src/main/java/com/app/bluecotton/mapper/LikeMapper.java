@@ -0,0 +1,23 @@
+package com.app.bluecotton.mapper;
+
+import com.app.bluecotton.domain.vo.LikeTarget;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+@Mapper
+public interface LikeMapper {
+    //  대상에 좋아요 한 회원 ID 목록
+    public List<Long> selectLikeMemberIds(@Param("target") LikeTarget target, @Param("targetId") Long targetId);
+
+    //  좋아요 일괄 추가 (이미 있거나 대상 / 회원이 삭제된 행은 건너뜀)
+    public int insertLikes(@Param("target") LikeTarget target, @Param("likes") List<Map<String, Long>> likes);
+
+    //  좋아요 일괄 취소
+    public int deleteLikes(@Param("target") LikeTarget target, @Param("likes") List<Map<String, Long>> likes);
+
+    //  게시글 집계 좋아요 수 재계산
+    public void refreshPostLikeCounts(@Param("postIds") List<Long> postIds);
+}
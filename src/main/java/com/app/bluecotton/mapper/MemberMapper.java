@@ -21,9 +21,16 @@ public interface MemberMapper {
     public void insertDefaultProfileImage(MemberProfileVO memberProfileVO);
 
     public Optional<MemberProfileVO> selectMemberProfileImage(Long memberId);
+
+    //  회원 프로필 이미지 일괄 조회
+    public List<MemberProfileVO> selectMemberProfileImagesByMemberIds(@Param("memberIds") List<Long> memberIds);
+
     //  회원 상세 조회
     public Optional<MemberVO> selectById(Long memberId);
 
+    //  회원 일괄 조회
+    public List<MemberVO> selectByIds(@Param("ids") List<Long> ids);
+
     //  회원의 이메일로 아이디 조회
     public Long selectIdByEmail(String memberEmail);
 
@@ -47,6 +54,12 @@ public interface MemberMapper {
             @Param("memberPassword") String newPassword
     );
 
+    public int updatePasswordIfUnchanged(
+            @Param("memberEmail") String memberEmail,
+            @Param("oldPassword") String oldPassword,
+            @Param("newPassword") String newPassword
+    );
+
     //  회원 탈퇴
     public void delete(Long memberId);
 
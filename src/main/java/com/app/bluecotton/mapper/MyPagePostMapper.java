@@ -2,6 +2,7 @@ package com.app.bluecotton.mapper;
 
 import com.app.bluecotton.domain.dto.*;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Map;
@@ -19,6 +20,8 @@ public interface MyPagePostMapper {
     public List<MyPagePostSaveDTO> readPostSave(Long id);
     //    마이페이지 내가 최근에 본 글
     public List<MyPagePostRecentDTO> readPostRecent(Long id);
+    //    마이페이지 내가 최근에 본 글 (게시글 ID 로 조회)
+    public List<MyPagePostRecentDTO> readPostRecentByPostIds(@Param("memberId") Long memberId, @Param("postIds") List<Long> postIds);
     //    내가 작성한 글 삭제
     public void deletePostWrite(Long id);
     //    내가 좋아요한 글 삭제
@@ -4,6 +4,7 @@ import com.app.bluecotton.domain.dto.*;
 import com.app.bluecotton.domain.vo.som.SomReviewVO;
 import com.app.bluecotton.domain.vo.som.SomVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Map;
@@ -17,12 +18,16 @@ public interface MyPageSomMapper {
     void insertSomCheck(MyPageSomCheckDTO myPageSomCheckDTO);
     // 마이페이지 솜 인증 이미지 추가 (자식)
     void insertSomCheckImage(MyPageSomCheckImageDTO myPageSomCheckImageDTO);
+    // 마이페이지 솜 인증 이미지 여러 장 추가 (ID 미리 발급)
+    void insertSomCheckImages(@Param("images") List<MyPageSomCheckImageDTO> images);
     //    마이페이지 솜 리뷰 추가
     public void insertSomReview(SomReviewVO somReviewVO);
     //    마이페이지 솜 인증 호출
     public List<MyPageSomCheckDTO> readSomCheck(Long id);
     //    마이페이지 솜 리뷰 호출
     public List<MyPageSomReviewDTO> readSomReview(Long id);
+    //    솜장 리뷰 일괄 호출
+    public List<MyPageSomReviewDTO> readSomReviewByMemberIds(@Param("memberIds") List<Long> memberIds);
     //    마이페이지 랭크 호출
     public Long readRank(Long id);
     // 특정 솜 참가 취소
@@ -27,4 +27,14 @@ public interface PostImageMapper {
 
     /** 6) postId 포함 이미지 INSERT */
     void insertImageWithPostId(PostImageVO vo);
+
+    /** 7) 이미지 여러 장 postId 연결 */
+    void updatePostIdByIds(@Param("imageIdChunks") List<List<Long>> imageIdChunks,
+                           @Param("postId") Long postId);
+
+    /** 8) 이미지 ID 목록 삭제 */
+    void deleteImagesByIds(@Param("imageIds") List<Long> imageIds);
+
+    /** 9) 이미지 여러 장 INSERT (목록 순서대로 ID 증가) */
+    void insertImagesWithPostId(@Param("images") List<PostImageVO> images);
 }
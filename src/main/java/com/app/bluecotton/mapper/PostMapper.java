@@ -5,6 +5,7 @@ import com.app.bluecotton.domain.vo.post.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -17,10 +18,47 @@ public interface PostMapper {
             @Param("orderType") String orderType,
             @Param("memberId") Long memberId,
             @Param("q") String q,
+            @Param("searchIds") List<List<Long>> searchIds,
             @Param("page") int page,
+            @Param("size") int size,
+            @Param("lookahead") int lookahead
+    );
+
+    // 게시글 랭킹 재구성 대상 (전체 / 카테고리별 순위가 topK 안에 드는 게시글)
+    List<PostRankingDTO> selectPostRankings(@Param("topK") int topK);
+
+    // 게시글의 솜 카테고리 (대문자)
+    String selectPostSomCategory(Long postId);
+
+    // 검색 결과 ID 한 묶음의 정렬값 (cursorId 가 null 이면 처음부터)
+    List<PostSortKeyDTO> selectSearchSortKeys(
+            @Param("orderType") String orderType,
+            @Param("ids") List<Long> ids,
+            @Param("cursorSortKey") Long cursorSortKey,
+            @Param("cursorId") Long cursorId,
+            @Param("limit") int limit
+    );
+
+    // 게시물 목록 조회 (커서 방식, cursorId 가 null 이면 첫 페이지)
+    List<PostMainDTO> selectByCursor(
+            @Param("somCategory") String somCategory,
+            @Param("orderType") String orderType,
+            @Param("memberId") Long memberId,
+            @Param("q") String q,
+            @Param("searchIds") List<List<Long>> searchIds,
+            @Param("cursorSortKey") Long cursorSortKey,
+            @Param("cursorCreateAt") Date cursorCreateAt,
+            @Param("cursorId") Long cursorId,
             @Param("size") int size
     );
 
+    // 게시글 / 댓글 일괄 삭제 (연관 데이터 포함, PL/SQL 블록 한 번)
+    public void deletePostsCascade(@Param("postIds") List<Long> postIds);
+    public void deleteCommentsCascade(@Param("commentIds") List<Long> commentIds);
+
+    // 검색 색인 대상 (postId 가 null 이면 전체)
+    List<PostSearchDTO> selectPostSearchDocuments(@Param("postId") Long postId);
+
     // Total 게시글 수
     int countPosts(
             @Param("somCategory") String somCategory,
@@ -75,6 +113,7 @@ public interface PostMapper {
 
     // 임시 저장 관련
     public void insertDraft(PostDraftVO postDraftVO);
+    public int updateDraft(PostDraftVO postDraftVO);
     public PostDraftVO selectDraftById(Long id);
     public void deleteDraftById(Long id);
 
@@ -101,9 +140,24 @@ public interface PostMapper {
     public void insertReplyLike(@Param("replyId") Long replyId, @Param("memberId") Long memberId);
     public void deleteReplyLike(@Param("replyId") Long replyId, @Param("memberId") Long memberId);
 
+    // 게시글 집계 (좋아요 수, 댓글 수)
+    public void addPostLikeCount(@Param("postId") Long postId, @Param("delta") int delta);
+    public void addPostCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+    public void addPostCommentCountByCommentId(@Param("commentId") Long commentId, @Param("delta") int delta);
+    public void refreshPostStats(Long postId);
+    public int reconcilePostStats();
+    public void deletePostStatsByPostId(Long postId);
+
+    // 댓글 / 답글의 게시글 ID
+    public Long selectPostIdByCommentId(Long commentId);
+    public Long selectPostIdByReplyId(Long replyId);
+
     // 조회수 _ 최근 본 게시글
     public void updateReadCount(Long postId);
+    public void addReadCounts(@Param("readCounts") Map<Long, Long> readCounts);
     public void insertOrUpdateRecentView(@Param("memberId") Long memberId, @Param("postId") Long postId);
+    public void mergeRecentViews(@Param("recents") List<PostRecentVO> recents);
+    public void deleteRecentViewsBeyond(@Param("memberIds") List<Long> memberIds, @Param("limit") int limit);
 
     // 댓글 / 답글
     public void insertComment(PostCommentVO postCommentVO);
@@ -127,22 +181,37 @@ public interface PostMapper {
             @Param("memberId") Long memberId
     );
 
+    // 게시글 댓글 페이지 조회
+    List<PostCommentDTO> selectCommentPage(
+            @Param("postId") Long postId,
+            @Param("memberId") Long memberId,
+            @Param("page") int page,
+            @Param("size") int size
+    );
+
+    // 게시글 답글 전체 조회
+    List<PostReplyDTO> selectRepliesByPostId(
+            @Param("postId") Long postId,
+            @Param("memberId") Long memberId
+    );
+
+    // 여러 댓글의 답글 일괄 조회
+    List<PostReplyDTO> selectRepliesByCommentIds(
+            @Param("commentIds") List<Long> commentIds,
+            @Param("memberId") Long memberId
+    );
+
     // 다음글, 이전글
     public PostNeighborDTO selectNextPost(Long id);
     public PostNeighborDTO selectPrevPost(Long id);
-
-    // 게시글 신고
-    public void insertPostReport(PostReportVO postReportVO);
-    // 댓글 신고
-    public void insertPostCommentReport(PostCommentReportVO postCommentReportVO);
-    // 답글 신고
-    public void insertPostReplyReport(PostReplyReportVO postReplyReportVO);
-
-    // 게시글 신고 중복 확인
-    public int checkPostReportExists(Long postId, Long memberId);
-    // 댓글 신고 중복 확인
-    public int checkCommentReportExists(Long postCommentId, Long memberId);
-    // 답글 신고 중복 확인
-    public int checkReplyReportExists(Long postReplyId, Long memberId);
+    // 이전글 / 다음글 구성용 (ID 순 키셋 페이지)
+    public List<PostNeighborDTO> selectPostNeighborPage(@Param("afterId") Long afterId, @Param("size") int size);
+
+    // 게시글 신고 (이미 신고했으면 0)
+    public int insertPostReport(PostReportVO postReportVO);
+    // 댓글 신고 (이미 신고했으면 0)
+    public int insertPostCommentReport(PostCommentReportVO postCommentReportVO);
+    // 답글 신고 (이미 신고했으면 0)
+    public int insertPostReplyReport(PostReplyReportVO postReplyReportVO);
 
 }
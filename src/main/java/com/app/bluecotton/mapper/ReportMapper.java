@@ -0,0 +1,20 @@
+package com.app.bluecotton.mapper;
+
+import com.app.bluecotton.domain.dto.ReportCountDTO;
+import com.app.bluecotton.domain.vo.ReportTarget;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface ReportMapper {
+    //  대상을 신고한 회원 ID 목록
+    public List<Long> selectReportMemberIds(@Param("target") ReportTarget target, @Param("targetId") Long targetId);
+
+    //  대상별 신고 수 (많은 순, limit 이 null 이면 전체)
+    public List<ReportCountDTO> selectReportCounts(@Param("target") ReportTarget target, @Param("limit") Integer limit);
+
+    //  지정한 대상들의 신고 수
+    public List<ReportCountDTO> selectReportCountsByTargetIds(@Param("target") ReportTarget target, @Param("targetIds") List<Long> targetIds);
+}
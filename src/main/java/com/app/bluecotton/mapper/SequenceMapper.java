@@ -0,0 +1,13 @@
+package com.app.bluecotton.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface SequenceMapper {
+
+    //  시퀀스 값 count 개를 한 번에 발급
+    public List<Long> selectNextValues(@Param("sequenceName") String sequenceName, @Param("count") int count);
+}
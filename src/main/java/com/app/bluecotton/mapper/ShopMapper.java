@@ -100,10 +100,7 @@ public interface ShopMapper {
 
 
     // 상품 리뷰 댓글 신고
-    public void productReviewReport(ProductReviewReportVO productReviewReportVO);
-
-    // 상품 리뷰 댓글 신고 중복 체크
-    public int checkProductReviewReportExists(Map<String,Object> reviewParams);
+    public int productReviewReport(ProductReviewReportVO productReviewReportVO);
 
 
     // 리뷰 댓글 도움돼요 상태 여부 조회
@@ -3,6 +3,7 @@ package com.app.bluecotton.mapper;
 import com.app.bluecotton.domain.dto.SomImageUpdateDTO;
 import com.app.bluecotton.domain.vo.som.SomImageVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Map;
@@ -14,4 +15,10 @@ public interface SomImageMapper {
     public void updateImgSomId(SomImageUpdateDTO somImageUpdateDTO);
 
     public List<SomImageVO> selectImagesBySomId(Long somId);
+
+    //  솜 전체 이미지 조회
+    public List<SomImageVO> selectAllSomImages();
+
+    //  솜 목록 이미지 일괄 조회
+    public List<SomImageVO> selectImagesBySomIds(@Param("somIds") List<Long> somIds);
 }
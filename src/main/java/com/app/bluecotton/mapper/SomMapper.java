@@ -2,10 +2,12 @@ package com.app.bluecotton.mapper;
 
 import com.app.bluecotton.domain.dto.SomJoinResponseDTO;
 import com.app.bluecotton.domain.dto.SomResponseDTO;
+import com.app.bluecotton.domain.dto.SomSearchDTO;
 import com.app.bluecotton.domain.vo.som.SomJoinVO;
 import com.app.bluecotton.domain.vo.som.SomLikeVO;
 import com.app.bluecotton.domain.vo.som.SomVO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import javax.swing.text.html.Option;
 import java.util.List;
@@ -24,9 +26,15 @@ public interface SomMapper {
 
     public Integer selectSomMaxPage(Map<String, Object> map);
 
+    //  솜 검색 색인 대상 (somId 가 null 이면 전체)
+    public List<SomSearchDTO> selectSomSearchDocuments(@Param("somId") Long somId);
+
     //  솜 전체 조회
     public List<SomResponseDTO> selectAll();
 
+    //  솜 전체 페이지 조회
+    public List<SomResponseDTO> selectAllByPage(Map<String, Object> map);
+
     //  솜 전체 주소 조회
     public List<String> selectAllAddress();
 
@@ -40,6 +48,12 @@ public interface SomMapper {
 
     public List<SomJoinResponseDTO> selectAllSomJoinList(Long somId);
 
+    //  솜 전체 참여자 조회
+    public List<SomJoinResponseDTO> selectAllSomJoin();
+
+    //  솜 목록 참여자 일괄 조회
+    public List<SomJoinResponseDTO> selectAllSomJoinListBySomIds(@Param("somIds") List<Long> somIds);
+
     public void deleteSomJoin(Long somJoinId);
 
     public void insertSomLike(SomLikeVO somLikeVO);
@@ -48,6 +62,9 @@ public interface SomMapper {
 
     public Boolean selectIsSomLike(SomLikeVO somLikeVO);
 
+    //  솜 목록 중 회원이 좋아요한 솜 ID 조회
+    public List<Long> selectLikedSomIds(@Param("memberId") Long memberId, @Param("somIds") List<Long> somIds);
+
     public void deleteSomLike(SomLikeVO somLikeVO);
 
     public List<SomLikeVO> selectSomLikeList(Long somId);
@@ -13,6 +13,7 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class AdminProductDAO {
     private final AdminProductMapper adminProductMapper;
+    private final SequenceDAO sequenceDAO;
 
     public List<ProductVO> findAll() {
         return adminProductMapper.selectAllProducts();
@@ -42,6 +43,15 @@ public class AdminProductDAO {
         adminProductMapper.insertProductImage(imageVO);
     }
 
+    // ID 한 번에 발급 후 INSERT ALL 한 번
+    public void saveImages(List<ProductImageVO> images) {
+        List<Long> imageIds = sequenceDAO.nextValues("SEQ_PRODUCT_IMAGE", images.size());
+        for (int i = 0; i < images.size(); i++) {
+            images.get(i).setId(imageIds.get(i));
+        }
+        adminProductMapper.insertProductImages(images);
+    }
+
     public void deleteImagesByProductId(Long productId) {
         adminProductMapper.deleteImagesByProductId(productId);
     }
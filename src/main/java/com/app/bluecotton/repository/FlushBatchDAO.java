@@ -0,0 +1,21 @@
+package com.app.bluecotton.repository;
+
+import com.app.bluecotton.mapper.FlushBatchMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+//  Redis write-behind 반영 기록 - 같은 반영용 해시를 두 번 반영하지 않도록 마지막 묶음 ID 를 남긴다
+@Repository
+@RequiredArgsConstructor
+public class FlushBatchDAO {
+
+    private final FlushBatchMapper flushBatchMapper;
+
+    public String findBatchId(String flushKey) {
+        return flushBatchMapper.selectBatchId(flushKey);
+    }
+
+    public void saveBatchId(String flushKey, String batchId) {
+        flushBatchMapper.upsertBatchId(flushKey, batchId);
+    }
+}
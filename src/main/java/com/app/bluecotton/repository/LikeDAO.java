@@ -0,0 +1,36 @@
+package com.app.bluecotton.repository;
+
+import com.app.bluecotton.domain.vo.LikeTarget;
+import com.app.bluecotton.mapper.LikeMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeDAO {
+
+    private final LikeMapper likeMapper;
+
+    //  대상에 좋아요 한 회원 ID 목록
+    public List<Long> findLikeMemberIds(LikeTarget target, Long targetId) {
+        return likeMapper.selectLikeMemberIds(target, targetId);
+    }
+
+    //  좋아요 일괄 추가 (targetId, memberId)
+    public int insertLikes(LikeTarget target, List<Map<String, Long>> likes) {
+        return likeMapper.insertLikes(target, likes);
+    }
+
+    //  좋아요 일괄 취소 (targetId, memberId)
+    public int deleteLikes(LikeTarget target, List<Map<String, Long>> likes) {
+        return likeMapper.deleteLikes(target, likes);
+    }
+
+    //  게시글 집계 좋아요 수 재계산
+    public void refreshPostLikeCounts(List<Long> postIds) {
+        likeMapper.refreshPostLikeCounts(postIds);
+    }
+}
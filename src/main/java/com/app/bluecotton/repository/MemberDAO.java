@@ -20,6 +20,10 @@ public class MemberDAO {
     public Optional<MemberVO> findById(Long id){
         return memberMapper.selectById(id);
     }
+    //  회원 일괄 조회
+    public List<MemberVO> findByIds(List<Long> ids){
+        return memberMapper.selectByIds(ids);
+    }
     //  전체 조회
     public List<MemberVO> findAll(){
         return memberMapper.selectAll();
@@ -60,6 +64,10 @@ public class MemberDAO {
     public Optional<MemberProfileVO> findMemberProfileImage(Long memberId){
         return memberMapper.selectMemberProfileImage(memberId);
     }
+
+    public List<MemberProfileVO> findMemberProfileImages(List<Long> memberIds){
+        return memberMapper.selectMemberProfileImagesByMemberIds(memberIds);
+    }
     //  회원 수정
     public void update(MemberVO memberVO){
         memberMapper.update(memberVO);
@@ -69,6 +77,11 @@ public class MemberDAO {
         memberMapper.updatePassword(memberEmail, newPassword);
     }
 
+    //  저장된 비밀번호가 oldPassword 그대로일 때만 변경 - 변경된 행 수
+    public int updatePasswordIfUnchanged(String memberEmail, String oldPassword, String newPassword){
+        return memberMapper.updatePasswordIfUnchanged(memberEmail, oldPassword, newPassword);
+    }
+
     //  회원 탈퇴
     public void delete(Long id){
         memberMapper.delete(id);
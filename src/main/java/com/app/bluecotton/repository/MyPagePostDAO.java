@@ -24,6 +24,8 @@ public class MyPagePostDAO {
     public List<MyPagePostSaveDTO> readPostSave(Long id) { return myPagePostMapper.readPostSave(id); }
     //    마이페이지 내가 최근에 본 글
     public List<MyPagePostRecentDTO> readPostRecent(Long id) { return myPagePostMapper.readPostRecent(id); }
+    //    마이페이지 내가 최근에 본 글 (게시글 ID 로 조회)
+    public List<MyPagePostRecentDTO> readPostRecentByPostIds(Long memberId, List<Long> postIds) { return myPagePostMapper.readPostRecentByPostIds(memberId, postIds); }
     //    내가 작성한 글 삭제
     public void deletePostWrite(Long id){ myPagePostMapper.deletePostWrite(id); };
     //    내가 좋아요한 글 삭제
@@ -30,6 +30,10 @@ public class MyPageSomDAO {
     public List<MyPageSomReviewDTO> readSomReview(Long id) {
         return myPageSomMapper.readSomReview(id);
     }
+    //    솜장 리뷰 일괄 호출
+    public List<MyPageSomReviewDTO> readSomReviewByMemberIds(List<Long> memberIds) {
+        return myPageSomMapper.readSomReviewByMemberIds(memberIds);
+    }
     //    마이페이지 랭크 호출
     public Long readRank(Long id) {
         return myPageSomMapper.readRank(id);
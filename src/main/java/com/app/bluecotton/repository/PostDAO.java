@@ -25,9 +25,75 @@ public class PostDAO {
             Long memberId,
             String q,
             int page,
+            int size,
+            int lookahead
+    ) {
+        return postMapper.select(somCategory, orderType, memberId, q, null, page, size, lookahead);
+    }
+
+    // 게시글 목록 조회 (검색 색인이 찾은 ID 안에서)
+    public List<PostMainDTO> findPostsBySearchIds(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            List<List<Long>> searchIds,
+            int page,
+            int size,
+            int lookahead
+    ) {
+        return postMapper.select(somCategory, orderType, memberId, null, searchIds, page, size, lookahead);
+    }
+
+    // 게시글 일괄 삭제 (연관 데이터 포함)
+    public void deletePostsCascade(List<Long> postIds) {
+        postMapper.deletePostsCascade(postIds);
+    }
+
+    // 댓글 일괄 삭제 (답글 포함, 게시글 댓글 수 재계산)
+    public void deleteCommentsCascade(List<Long> commentIds) {
+        postMapper.deleteCommentsCascade(commentIds);
+    }
+
+    // 검색 색인 대상 (postId 가 null 이면 전체)
+    public List<PostSearchDTO> findPostSearchDocuments(Long postId) {
+        return postMapper.selectPostSearchDocuments(postId);
+    }
+
+    // 게시글 랭킹 재구성 대상
+    public List<PostRankingDTO> findPostRankings(int topK) {
+        return postMapper.selectPostRankings(topK);
+    }
+
+    // 게시글의 솜 카테고리 (대문자, 솜이 없으면 null)
+    public String findPostSomCategory(Long postId) {
+        return postMapper.selectPostSomCategory(postId);
+    }
+
+    // 검색 결과 ID 한 묶음(1000개 이하)의 정렬값 - 커서 다음부터 앞쪽 limit 건
+    public List<PostSortKeyDTO> findSearchSortKeys(String orderType, List<Long> ids, PostFeedCursor cursor, int limit) {
+        if (cursor == null) {
+            return postMapper.selectSearchSortKeys(orderType, ids, null, null, limit);
+        }
+        return postMapper.selectSearchSortKeys(orderType, ids, cursor.getSortKey(), cursor.getId(), limit);
+    }
+
+    // 게시글 목록 조회 (커서 방식)
+    public List<PostMainDTO> findPostsByCursor(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            String q,
+            List<List<Long>> searchIds,
+            PostFeedCursor cursor,
             int size
     ) {
-        return postMapper.select(somCategory, orderType, memberId, q, page, size);
+        if (cursor == null) {
+            return postMapper.selectByCursor(somCategory, orderType, memberId, q, searchIds, null, null, null, size);
+        }
+        return postMapper.selectByCursor(
+                somCategory, orderType, memberId, q, searchIds,
+                cursor.getSortKey(), cursor.getCreateAt(), cursor.getId(), size
+        );
     }
 
     // Total 게시글 수 처리
@@ -78,6 +144,11 @@ public class PostDAO {
         postMapper.insertDraft(postDraftVO);
     }
 
+    //  임시저장 덮어쓰기 (변경된 행 수)
+    public int updateDraft(PostDraftVO postDraftVO) {
+        return postMapper.updateDraft(postDraftVO);
+    }
+
     //  임시저장 불러오기
     public PostDraftVO findDraftById(Long id) {
         return postMapper.selectDraftById(id);
@@ -158,16 +229,43 @@ public class PostDAO {
         postMapper.deleteReplyLike(replyId, memberId);
     }
 
+    // 게시글 집계 (좋아요 수, 댓글 수)
+    public void addPostLikeCount(Long postId, int delta) { postMapper.addPostLikeCount(postId, delta); }
+    public void addPostCommentCount(Long postId, int delta) { postMapper.addPostCommentCount(postId, delta); }
+    public void addPostCommentCountByCommentId(Long commentId, int delta) { postMapper.addPostCommentCountByCommentId(commentId, delta); }
+    public void refreshPostStats(Long postId) { postMapper.refreshPostStats(postId); }
+    public int reconcilePostStats() { return postMapper.reconcilePostStats(); }
+    public void deletePostStatsByPostId(Long postId) { postMapper.deletePostStatsByPostId(postId); }
+
+    // 댓글 / 답글의 게시글 ID
+    public Long findPostIdByCommentId(Long commentId) { return postMapper.selectPostIdByCommentId(commentId); }
+    public Long findPostIdByReplyId(Long replyId) { return postMapper.selectPostIdByReplyId(replyId); }
+
     //  조회수 + 1(게시물 상세 조회 시)
     public void updateReadCount(Long postId) {
         postMapper.updateReadCount(postId);
     }
 
+    //  조회수 일괄 반영 (postId -> 증가분)
+    public void addReadCounts(Map<Long, Long> readCounts) {
+        postMapper.addReadCounts(readCounts);
+    }
+
     //  최근 본 글 게시물(게시물 상세 조회 시)
     public void registerRecent(Long memberId, Long postId) {
         postMapper.insertOrUpdateRecentView(memberId, postId);
     }
 
+    //  최근 본 글 일괄 반영
+    public void mergeRecentViews(List<PostRecentVO> recents) {
+        postMapper.mergeRecentViews(recents);
+    }
+
+    //  회원별 최근 본 글을 limit 개만 남기고 삭제
+    public void deleteRecentViewsBeyond(List<Long> memberIds, int limit) {
+        postMapper.deleteRecentViewsBeyond(memberIds, limit);
+    }
+
     //  댓글 추가
     public void insertComment(PostCommentVO postCommentVO) {
         postMapper.insertComment(postCommentVO);
@@ -193,6 +291,21 @@ public class PostDAO {
         return postMapper.selectReply(postCommentId, memberId);
     }
 
+    // 댓글 페이지 조회
+    public List<PostCommentDTO> selectCommentPage(Long postId, Long memberId, int page, int size) {
+        return postMapper.selectCommentPage(postId, memberId, page, size);
+    }
+
+    // 게시글의 답글 전체 조회
+    public List<PostReplyDTO> selectRepliesByPostId(Long postId, Long memberId) {
+        return postMapper.selectRepliesByPostId(postId, memberId);
+    }
+
+    // 여러 댓글의 답글 일괄 조회
+    public List<PostReplyDTO> selectRepliesByCommentIds(List<Long> commentIds, Long memberId) {
+        return postMapper.selectRepliesByCommentIds(commentIds, memberId);
+    }
+
     // 다음글, 이전글
     public PostNeighborDTO selectNextPost(Long postId) {
         return postMapper.selectNextPost(postId);
@@ -202,33 +315,23 @@ public class PostDAO {
         return postMapper.selectPrevPost(postId);
     }
 
-    // 게시글 신고
-    public void reportPost(PostReportVO postReportVO) {
-        postMapper.insertPostReport(postReportVO);
-    }
-
-    // 댓글 신고
-    public void reportComment(PostCommentReportVO PostCommentReportVO) {
-        postMapper.insertPostCommentReport(PostCommentReportVO);
-    }
-
-    // 답글 신고
-    public void reportReply(PostReplyReportVO postReplyReportVO) {
-        postMapper.insertPostReplyReport(postReplyReportVO);
+    // 이전글 / 다음글 구성용 공개 게시글 (afterId 다음부터 size 건)
+    public List<PostNeighborDTO> findNeighborPage(Long afterId, int size) {
+        return postMapper.selectPostNeighborPage(afterId, size);
     }
 
-    // 게시글 신고 중복 여부
-    public boolean existsPostReport(Long postId, Long memberId) {
-        return postMapper.checkPostReportExists(postId, memberId) > 0;
+    // 게시글 신고 (이미 신고했으면 0)
+    public int reportPost(PostReportVO postReportVO) {
+        return postMapper.insertPostReport(postReportVO);
     }
 
-    // 댓글 신고 중복 여부
-    public boolean existsCommentReport(Long postCommentId, Long memberId) {
-        return postMapper.checkCommentReportExists(postCommentId, memberId) > 0;
+    // 댓글 신고 (이미 신고했으면 0)
+    public int reportComment(PostCommentReportVO PostCommentReportVO) {
+        return postMapper.insertPostCommentReport(PostCommentReportVO);
     }
 
-    // 답글 신고 중복 여부
-    public boolean existsReplyReport(Long postReplyId, Long memberId) {
-        return postMapper.checkReplyReportExists(postReplyId, memberId) > 0;
+    // 답글 신고 (이미 신고했으면 0)
+    public int reportReply(PostReplyReportVO postReplyReportVO) {
+        return postMapper.insertPostReplyReport(postReplyReportVO);
     }
 }
@@ -5,6 +5,7 @@ import com.app.bluecotton.mapper.PostImageMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Repository
@@ -12,6 +13,7 @@ import java.util.List;
 public class PostImageDAO {
 
     private final PostImageMapper postImageMapper;
+    private final SequenceDAO sequenceDAO;
 
     /** 1) 임시 저장 이미지 등록 (POST_ID 없이 업로드) */
     public void insertImgTemp(PostImageVO vo) {
@@ -43,4 +45,27 @@ public class PostImageDAO {
         postImageMapper.insertImageWithPostId(vo);
     }
 
+    /** 7) 이미지 여러 장 postId 연결 (UPDATE 한 번) */
+    public void updatePostIdByIds(List<Long> imageIds, Long postId) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < imageIds.size(); from += 1000) {
+            chunks.add(imageIds.subList(from, Math.min(from + 1000, imageIds.size())));
+        }
+        postImageMapper.updatePostIdByIds(chunks, postId);
+    }
+
+    /** 8) 이미지 ID 목록 삭제 */
+    public void deleteImagesByIds(List<Long> imageIds) {
+        postImageMapper.deleteImagesByIds(imageIds);
+    }
+
+    /** 9) 이미지 여러 장 INSERT (ID 한 번에 발급 후 INSERT ALL 한 번) */
+    public void insertImagesWithPostId(List<PostImageVO> images) {
+        List<Long> imageIds = sequenceDAO.nextValues("SEQ_POST_IMAGE", images.size());
+        for (int i = 0; i < images.size(); i++) {
+            images.get(i).setId(imageIds.get(i));
+        }
+        postImageMapper.insertImagesWithPostId(images);
+    }
+
 }
@@ -0,0 +1,31 @@
+package com.app.bluecotton.repository;
+
+import com.app.bluecotton.domain.dto.ReportCountDTO;
+import com.app.bluecotton.domain.vo.ReportTarget;
+import com.app.bluecotton.mapper.ReportMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportDAO {
+
+    private final ReportMapper reportMapper;
+
+    //  대상을 신고한 회원 ID 목록
+    public List<Long> findReportMemberIds(ReportTarget target, Long targetId) {
+        return reportMapper.selectReportMemberIds(target, targetId);
+    }
+
+    //  대상별 신고 수 (많은 순)
+    public List<ReportCountDTO> findReportCounts(ReportTarget target, Integer limit) {
+        return reportMapper.selectReportCounts(target, limit);
+    }
+
+    //  지정한 대상들의 신고 수 (신고가 없는 대상은 빠짐)
+    public List<ReportCountDTO> findReportCountsByTargetIds(ReportTarget target, List<Long> targetIds) {
+        return reportMapper.selectReportCountsByTargetIds(target, targetIds);
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.bluecotton.repository;
+
+import com.app.bluecotton.mapper.SequenceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+//  여러 행을 INSERT ALL 한 번으로 넣을 때 쓸 ID 를 한 번에 발급
+@Repository
+@RequiredArgsConstructor
+public class SequenceDAO {
+
+    private static final Pattern SEQUENCE_NAME = Pattern.compile("SEQ_[A-Z_]+");
+
+    private final SequenceMapper sequenceMapper;
+
+    //  오름차순 시퀀스 값 count 개 (목록 순서대로 붙이면 입력 순서와 ID 순서가 같다)
+    public List<Long> nextValues(String sequenceName, int count) {
+        if (!SEQUENCE_NAME.matcher(sequenceName).matches()) {
+            throw new IllegalArgumentException("잘못된 시퀀스 이름: " + sequenceName);
+        }
+        if (count <= 0) {
+            return List.of();
+        }
+        List<Long> values = new ArrayList<>(sequenceMapper.selectNextValues(sequenceName, count));
+        Collections.sort(values);
+        return values;
+    }
+}
@@ -158,19 +158,11 @@ public class ShopDAO {
     }
 
 
-    // 상품 리뷰 댓글 신고하기
-    public void reportProductReview(ProductReviewReportVO productReviewReportVO) {
-        shopMapper.productReviewReport(productReviewReportVO);
+    // 상품 리뷰 댓글 신고하기 (이미 신고했으면 0)
+    public int reportProductReview(ProductReviewReportVO productReviewReportVO) {
+        return shopMapper.productReviewReport(productReviewReportVO);
     }
 
-    // 상품 리뷰 댓글 신고 중복 체크
-    public boolean checkProductReviewReportExists(Long productReviewId, Long memberId) {
-        Map<String, Object> params = new HashMap<>();
-        params.put("productReviewId", productReviewId);
-        params.put("memberId", memberId);
-
-        return shopMapper.checkProductReviewReportExists(params) > 0;
-    }
 
 
 
@@ -2,6 +2,7 @@ package com.app.bluecotton.repository;
 
 import com.app.bluecotton.domain.dto.SomJoinResponseDTO;
 import com.app.bluecotton.domain.dto.SomResponseDTO;
+import com.app.bluecotton.domain.dto.SomSearchDTO;
 import com.app.bluecotton.domain.vo.som.SomJoinVO;
 import com.app.bluecotton.domain.vo.som.SomLikeVO;
 import com.app.bluecotton.domain.vo.som.SomVO;
@@ -29,6 +30,11 @@ public class SomDAO {
         return somMapper.selectSomMaxPage(map);
     }
 
+    //  솜 검색 색인 대상 (somId 가 null 이면 전체)
+    public List<SomSearchDTO> findSomSearchDocuments(Long somId) {
+        return somMapper.selectSomSearchDocuments(somId);
+    }
+
     //  솜 상세 조회
     public Optional<SomResponseDTO> findById(Long somId) {
         return somMapper.selectById(somId);
@@ -42,6 +48,11 @@ public class SomDAO {
         return somMapper.selectAll();
     }
 
+    //  솜 전체 페이지 조회
+    public List<SomResponseDTO> findAllSomByPage(Map<String, Object> map) {
+        return somMapper.selectAllByPage(map);
+    }
+
     //  솜 전체 주소 조회
     public List<String> findAllSomAddress() {
         return somMapper.selectAllAddress();
@@ -65,6 +76,14 @@ public class SomDAO {
         return somMapper.selectAllSomJoinList(id);
     }
 
+    public List<SomJoinResponseDTO> readAllSomJoinList() {
+        return somMapper.selectAllSomJoin();
+    }
+
+    public List<SomJoinResponseDTO> readSomJoinListBySomIds(List<Long> somIds) {
+        return somMapper.selectAllSomJoinListBySomIds(somIds);
+    }
+
     public void deleteSomJoin(Long somJoinId) {
         somMapper.deleteSomJoin(somJoinId);
     }
@@ -81,6 +100,10 @@ public class SomDAO {
         return somMapper.selectIsSomLike(somLikeVO);
     }
 
+    public List<Long> selectLikedSomIds(Long memberId, List<Long> somIds) {
+        return somMapper.selectLikedSomIds(memberId, somIds);
+    }
+
     public void deleteSomLike(SomLikeVO somLikeVO) {
         somMapper.deleteSomLike(somLikeVO);
     }
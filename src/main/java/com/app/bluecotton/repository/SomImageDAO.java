@@ -28,4 +28,12 @@ public class SomImageDAO {
         return somImageMapper.selectImagesBySomId(somId);
     }
 
+    public List<SomImageVO> selectAllSomImages(){
+        return somImageMapper.selectAllSomImages();
+    }
+
+    public List<SomImageVO> selectImagesBySomIds(List<Long> somIds){
+        return somImageMapper.selectImagesBySomIds(somIds);
+    }
+
 }
@@ -0,0 +1,25 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.LikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  Redis에 쌓인 좋아요 변경을 주기적으로 좋아요 테이블에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushScheduler {
+
+    private final LikeService likeService;
+
+    @Scheduled(fixedDelayString = "${like.flush-interval-ms:5000}")
+    public void flushLikes() {
+        try {
+            likeService.flush();
+        } catch (Exception e) {
+            log.error("좋아요 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.MailOutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  메일 발송 대기열 처리 (발송은 mailSendExecutor 에서)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxScheduler {
+
+    private final MailOutboxService mailOutboxService;
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:500}")
+    public void dispatch() {
+        try {
+            mailOutboxService.dispatch();
+        } catch (Exception e) {
+            log.error("메일 발송 대기열 처리 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
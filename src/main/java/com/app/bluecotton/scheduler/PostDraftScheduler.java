@@ -0,0 +1,25 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.PostDraftService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  입력이 멈춘 자동 저장 임시저장을 주기적으로 TBL_POST_DRAFT 에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDraftScheduler {
+
+    private final PostDraftService postDraftService;
+
+    @Scheduled(fixedDelayString = "${post.draft.flush-interval-ms:10000}")
+    public void flushDrafts() {
+        try {
+            postDraftService.flush();
+        } catch (Exception e) {
+            log.error("임시저장 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.PostNeighborService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  이전글 / 다음글 색인 구성 (기동 시 + 주기적 재구성)
+//  Redis 장애로 실패해도 상세 화면은 DB 조회로 동작하므로 로그만 남긴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostNeighborScheduler {
+
+    private final PostNeighborService postNeighborService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${post.neighbor.rebuild-interval-ms:3600000}", initialDelayString = "${post.neighbor.rebuild-interval-ms:3600000}")
+    public void rebuildNeighbors() {
+        try {
+            postNeighborService.rebuild();
+        } catch (Exception e) {
+            log.error("이전글 / 다음글 색인 구성 실패", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.PostRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  게시글 랭킹 구성 (기동 시 + 주기적 재구성, 트렌딩 갱신)
+//  Redis 장애로 실패해도 피드는 DB 정렬로 동작하므로 로그만 남긴다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRankingScheduler {
+
+    private final PostRankingService postRankingService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${post.rank.rebuild-interval-ms:600000}", initialDelayString = "${post.rank.rebuild-interval-ms:600000}")
+    public void rebuildRankings() {
+        try {
+            postRankingService.rebuild();
+        } catch (Exception e) {
+            log.error("게시글 랭킹 구성 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.rank.trending-interval-ms:300000}")
+    public void refreshTrending() {
+        try {
+            postRankingService.refreshTrending();
+        } catch (Exception e) {
+            log.error("트렌딩 랭킹 갱신 실패", e);
+        }
+    }
+}
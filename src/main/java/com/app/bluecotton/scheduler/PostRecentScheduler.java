@@ -0,0 +1,25 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.PostRecentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  Redis에 쌓인 최근 본 글을 주기적으로 TBL_POST_RECENT 에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRecentScheduler {
+
+    private final PostRecentService postRecentService;
+
+    @Scheduled(fixedDelayString = "${post.recent.flush-interval-ms:60000}")
+    public void flushRecentViews() {
+        try {
+            postRecentService.flush();
+        } catch (Exception e) {
+            log.error("최근 본 글 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
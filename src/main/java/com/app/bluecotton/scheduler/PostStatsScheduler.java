@@ -0,0 +1,24 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.repository.PostDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+//  TBL_POST_STATS 보정 작업 - 증감 누락(관리자 삭제, 동시 요청 등)으로 생긴 차이를 실제 값으로 맞춘다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostStatsScheduler {
+
+    private final PostDAO postDAO;
+
+    @Scheduled(cron = "${post.stats.reconcile-cron:0 30 4 * * *}")
+    @Transactional(rollbackFor = Exception.class)
+    public void reconcilePostStats() {
+        int updated = postDAO.reconcilePostStats();
+        log.info("게시글 집계 보정 완료: {}건", updated);
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.PostViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  Redis에 누적된 게시글 조회수를 주기적으로 TBL_POST 에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountScheduler {
+
+    private final PostViewCountService postViewCountService;
+
+    @Scheduled(fixedDelayString = "${post.view.flush-interval-ms:30000}")
+    public void flushViewCounts() {
+        try {
+            postViewCountService.flush();
+        } catch (Exception e) {
+            log.error("조회수 반영 실패 (다음 주기에 재시도)", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  신고 수 집계 구성 (기동 시 + 주기적 재구성)
+//  신고 대상이 삭제되면 신고도 같이 지워지므로 주기적으로 DB 기준으로 맞춘다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportCountScheduler {
+
+    private final ReportService reportService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${report.count.rebuild-interval-ms:600000}", initialDelayString = "${report.count.rebuild-interval-ms:600000}")
+    public void rebuildCounts() {
+        try {
+            reportService.rebuildCounts();
+        } catch (Exception e) {
+            log.error("신고 수 집계 구성 실패", e);
+        }
+    }
+}
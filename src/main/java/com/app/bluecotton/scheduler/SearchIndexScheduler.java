@@ -0,0 +1,25 @@
+package com.app.bluecotton.scheduler;
+
+import com.app.bluecotton.service.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+//  검색 색인 주기적 재색인 (닉네임 / 솜 제목 변경, 관리자 삭제처럼 쓰기 경로 밖의 변경 반영)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexScheduler {
+
+    private final SearchIndexService searchIndexService;
+
+    @Scheduled(cron = "${search.index.rebuild-cron:0 0 * * * *}")
+    public void rebuildSearchIndex() {
+        try {
+            searchIndexService.rebuild();
+        } catch (Exception e) {
+            log.error("검색 재색인 실패", e);
+        }
+    }
+}
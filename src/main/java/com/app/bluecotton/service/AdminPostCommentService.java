@@ -1,6 +1,7 @@
 package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.ReportedCommentDTO;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
 
 import java.util.List;
 
@@ -10,4 +11,9 @@ public interface AdminPostCommentService {
     public void deleteCommentAsAdmin(Long commentId);
 
     public void deleteReplyAsAdmin(Long replyId);
+
+    //  댓글 일괄 삭제 (많으면 백그라운드 작업으로)
+    public PostPurgeJobDTO deleteCommentsAsAdmin(List<Long> commentIds);
+
+    public PostPurgeJobDTO getDeleteJob(String jobId);
 }
@@ -1,12 +1,15 @@
 package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.ReportedCommentDTO;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
 import com.app.bluecotton.repository.AdminPostCommentDAO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
 
 @Service
@@ -16,6 +19,11 @@ import java.util.List;
 public class AdminPostCommentServiceImpl implements AdminPostCommentService {
 
     private final AdminPostCommentDAO dao;
+    private final PostPurgeService postPurgeService;
+
+    //  이 개수를 넘으면 백그라운드 작업으로 삭제
+    @Value("${post.purge.async-threshold:100}")
+    private int asyncThreshold;
 
     @Override
     @Transactional(readOnly = true)
@@ -33,5 +41,30 @@ public class AdminPostCommentServiceImpl implements AdminPostCommentService {
 
         dao.deleteReplyCascade(replyId);
     }
+
+    @Override
+    public PostPurgeJobDTO deleteCommentsAsAdmin(List<Long> commentIds) {
+        if (commentIds != null && commentIds.size() > asyncThreshold) {
+            return postPurgeService.startCommentPurge(commentIds);
+        }
+
+        Date startedAt = new Date();
+        int count = postPurgeService.purgeComments(commentIds);
+
+        PostPurgeJobDTO result = new PostPurgeJobDTO();
+        result.setTargetType("COMMENT");
+        result.setStatus("DONE");
+        result.setTotalCount(count);
+        result.setProcessedCount(count);
+        result.setStartedAt(startedAt);
+        result.setFinishedAt(new Date());
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostPurgeJobDTO getDeleteJob(String jobId) {
+        return postPurgeService.getJob(jobId);
+    }
 }
 
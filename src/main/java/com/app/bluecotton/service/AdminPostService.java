@@ -2,6 +2,7 @@ package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.post.AdminPostDetailDTO;
 import com.app.bluecotton.domain.dto.post.AdminPostListDTO;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
 
 import java.util.List;
 
@@ -12,4 +13,9 @@ public interface AdminPostService {
     public AdminPostDetailDTO selectPostDetail(Long id);
 
     public void delete(Long id);
+
+    //  게시글 일괄 삭제 (많으면 백그라운드 작업으로)
+    public PostPurgeJobDTO deleteAll(List<Long> ids);
+
+    public PostPurgeJobDTO getDeleteJob(String jobId);
 }
@@ -2,12 +2,15 @@ package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.post.AdminPostDetailDTO;
 import com.app.bluecotton.domain.dto.post.AdminPostListDTO;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
 import com.app.bluecotton.repository.AdminPostDAO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Date;
 import java.util.List;
 
 @Service
@@ -18,6 +21,11 @@ public class AdminPostServiceImpl implements AdminPostService {
 
     private final AdminPostDAO adminPostDAO;
     private final PostService postService;
+    private final PostPurgeService postPurgeService;
+
+    //  이 개수를 넘으면 백그라운드 작업으로 삭제
+    @Value("${post.purge.async-threshold:100}")
+    private int asyncThreshold;
 
     @Override
     public List<AdminPostListDTO> selectAdminPostList() {
@@ -33,4 +41,28 @@ public class AdminPostServiceImpl implements AdminPostService {
     public void delete(Long id) {
         postService.withdraw(id);
     }
+
+    @Override
+    public PostPurgeJobDTO deleteAll(List<Long> ids) {
+        if (ids != null && ids.size() > asyncThreshold) {
+            return postPurgeService.startPostPurge(ids);
+        }
+
+        Date startedAt = new Date();
+        int count = postPurgeService.purgePosts(ids);
+
+        PostPurgeJobDTO result = new PostPurgeJobDTO();
+        result.setTargetType("POST");
+        result.setStatus("DONE");
+        result.setTotalCount(count);
+        result.setProcessedCount(count);
+        result.setStartedAt(startedAt);
+        result.setFinishedAt(new Date());
+        return result;
+    }
+
+    @Override
+    public PostPurgeJobDTO getDeleteJob(String jobId) {
+        return postPurgeService.getJob(jobId);
+    }
 }
@@ -1,10 +1,12 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
 import com.app.bluecotton.domain.vo.shop.ProductImageVO;
 import com.app.bluecotton.domain.vo.shop.ProductVO;
 import com.app.bluecotton.repository.AdminProductDAO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,13 +24,7 @@ public class AdminProductServiceImpl implements AdminProductService {
     @Override
     public Long createProduct(ProductVO productVO, List<ProductImageVO> images) {
         adminProductDAO.save(productVO);
-
-        if (images != null) {
-            for (ProductImageVO image : images) {
-                image.setProductId(productVO.getId());
-                adminProductDAO.saveImage(image);
-            }
-        }
+        saveImages(productVO.getId(), images);
 
         return productVO.getId();
     }
@@ -53,20 +49,25 @@ public class AdminProductServiceImpl implements AdminProductService {
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#productVO.id")
     public void updateProduct(ProductVO productVO, List<ProductImageVO> images) {
         adminProductDAO.update(productVO);
 
         adminProductDAO.deleteImagesByProductId(productVO.getId());
+        saveImages(productVO.getId(), images);
+    }
 
-        if (images != null) {
-            for (ProductImageVO image : images) {
-                image.setProductId(productVO.getId());
-                adminProductDAO.saveImage(image);
-            }
+    // 상품 이미지 한 번에 저장
+    private void saveImages(Long productId, List<ProductImageVO> images) {
+        if (images == null || images.isEmpty()) {
+            return;
         }
+        images.forEach((image) -> image.setProductId(productId));
+        adminProductDAO.saveImages(images);
     }
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#id")
     public void deleteProduct(Long id) {
         adminProductDAO.deleteImagesByProductId(id);
         adminProductDAO.delete(id);
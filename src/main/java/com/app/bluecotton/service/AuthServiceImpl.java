@@ -1,22 +1,20 @@
 package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.TokenDTO;
+import com.app.bluecotton.domain.vo.RefreshTokenStatus;
 import com.app.bluecotton.domain.vo.member.MemberVO;
 import com.app.bluecotton.exception.JwtTokenException;
 import com.app.bluecotton.exception.MemberException;
 import com.app.bluecotton.repository.MemberDAO;
 import com.app.bluecotton.util.JwtTokenUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
@@ -24,16 +22,10 @@ import java.util.concurrent.TimeUnit;
 @Transactional(rollbackFor = Exception.class)
 public class AuthServiceImpl implements AuthService {
 
-    @Value("${jwt.token-blacklist-prefix}")
-    private String BLACKLIST_TOKEN_PREFIX;
-
-    @Value("${jwt.refresh-blacklist-prefix}")
-    private String REFRESH_TOKEN_PREFIX;
-
     private final MemberDAO memberDAO;
     private final JwtTokenUtil jwtTokenUtil;
-    private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate redisTemplate;
+    private final PasswordHasher passwordHasher;
+    private final TokenStoreService tokenStoreService;
 
     @Override
     public Map<String, String> login(MemberVO memberVO) {
@@ -53,19 +45,23 @@ public class AuthServiceImpl implements AuthService {
 
         if(foundMember.getMemberEmail().equals("test123@gmail.com")) {
 
-            if(!memberVO.getMemberPassword().equals(foundMember.getMemberPassword())) {
+            // 테스트 계정은 재해시하지 않는다 (평문 / 해시 모두 비교)
+            if(!passwordHasher.matches(memberVO.getMemberPassword(), foundMember.getMemberPassword())) {
                 throw new MemberException("비밀번호를 확인해주세요.");
             }
 
         } else {
-//            if(!passwordEncoder.matches(memberVO.getMemberPassword(), foundMember.getMemberPassword())) {
-//                throw new MemberException("비밀번호를 확인해주세요.");
-//            }
+            if(!passwordHasher.matches(memberVO.getMemberPassword(), foundMember.getMemberPassword())) {
+                throw new MemberException("비밀번호를 확인해주세요.");
+            }
+            // 해시 비용이 바뀌었으면 다시 해시
+            passwordHasher.rehashIfNeeded(foundMember.getMemberEmail(), memberVO.getMemberPassword(), foundMember.getMemberPassword());
         }
 
 
         // 3. 토큰 생성
         claim.put("memberEmail", memberVO.getMemberEmail());
+        claim.put("memberId", String.valueOf(foundMember.getId()));
         String accessToken = jwtTokenUtil.generateAccessToken(claim);
         String refreshToken = jwtTokenUtil.generateRefreshToken(claim);
 
@@ -84,113 +80,75 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public boolean saveRefreshToken(TokenDTO tokenDTO) {
-        Long id = tokenDTO.getMemberId();
-        String refreshToken = tokenDTO.getRefreshToken();
-
-        try {
-            String key = REFRESH_TOKEN_PREFIX + id;
-            redisTemplate.opsForValue().set(key, refreshToken, 7, TimeUnit.DAYS);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenStoreService.saveRefreshToken(tokenDTO.getMemberId(), tokenDTO.getRefreshToken());
     }
 
     @Override
     public boolean validateRefreshToken(TokenDTO tokenDTO) {
-        Long id = tokenDTO.getMemberId();
-        String refreshToken = tokenDTO.getRefreshToken();
-
-        String key = REFRESH_TOKEN_PREFIX + id;
-        try {
-            String storedToken = redisTemplate.opsForValue().get(key).toString();
-
-            if(!refreshToken.equals(storedToken)) {
-                return false;
-            }
-
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenStoreService.checkRefreshToken(tokenDTO.getMemberId(), tokenDTO.getRefreshToken()) == RefreshTokenStatus.VALID;
     }
 
     @Override
     public String reissueAccessToken(TokenDTO tokenDTO) {
         Map<String,String> claim = new HashMap<>();
 
-        String memberEmail = (String)jwtTokenUtil.getMemberEmailFromToken(tokenDTO.getRefreshToken()).get("memberEmail");
-
-        Long id =  memberDAO.findIdByMemberEmail(memberEmail);
+        Claims claims = jwtTokenUtil.getMemberEmailFromToken(tokenDTO.getRefreshToken());
+        if(claims == null) {
+            throw new JwtTokenException("Refresh Token이 유효하지 않습니다. 다시 로그인하세요");
+        }
+        String memberEmail = (String)claims.get("memberEmail");
 
-        tokenDTO.setMemberId(id);
+        tokenDTO.setMemberId(resolveMemberId(claims));
 
-        // 1. 기존 RefreshToken 또는 AccessToken 블랙리스트인지 확인
-        if(isBlacklistedRefreshToken(tokenDTO)) {
+        // 1. 블랙리스트 확인 + 리프레쉬 토큰 검증 (Redis 한 번)
+        RefreshTokenStatus status = tokenStoreService.checkRefreshToken(tokenDTO.getMemberId(), tokenDTO.getRefreshToken());
+        if(status == RefreshTokenStatus.BLACKLISTED) {
             throw new JwtTokenException("이미 로그아웃된 토큰입니다. 다시 로그인하세요");
         }
-
-        // 2. 리프레쉬 토큰 검증
-        if(!validateRefreshToken(tokenDTO)) {
+        if(status != RefreshTokenStatus.VALID) {
             throw new JwtTokenException("Refresh Token이 유효하지 않습니다. 다시 로그인하세요");
         }
 
-        // 3. Member 정보 조회
-        MemberVO mebmerVO = memberDAO.findById(id).orElseThrow(() -> new MemberException("회원 정보를 찾을 수 없습니다"));
-        claim.put("memberEmail", mebmerVO.getMemberEmail());
+        // 2. 토큰 클레임으로 재발급 (탈퇴하면 저장된 Refresh 토큰이 지워지므로 회원 조회는 생략)
+        claim.put("memberEmail", memberEmail);
+        claim.put("memberId", String.valueOf(tokenDTO.getMemberId()));
         String newAccessToken = jwtTokenUtil.generateAccessToken(claim);
         return newAccessToken;
     }
 
     @Override
     public boolean revokeRefreshToken(TokenDTO tokenDTO) {
-        Long id = tokenDTO.getMemberId();
-        String refreshToken = tokenDTO.getRefreshToken();
-        String key = REFRESH_TOKEN_PREFIX + id;
-
-        try {
-            String storedToken = redisTemplate.opsForValue().get(key).toString();
-            if(storedToken != null && !storedToken.equals(refreshToken)) {
-                // 삭제
-                redisTemplate.delete(key);
-                return true;
-            } else {
-                return false;
-            }
-        } catch (Exception e) {
-            return false;
-        }
+        return tokenStoreService.revokeIfDifferent(tokenDTO.getMemberId(), tokenDTO.getRefreshToken());
     }
 
     // 탈취 방어
     @Override
     public boolean saveBlacklistedToken(TokenDTO tokenDTO) {
-        String memberEmail = (String) jwtTokenUtil.getMemberEmailFromToken(tokenDTO.getRefreshToken()).get("memberEmail");
-        Long id =  memberDAO.findIdByMemberEmail(memberEmail);
         String refreshToken = tokenDTO.getRefreshToken();
-        String key = BLACKLIST_TOKEN_PREFIX + id;
-
-        try {
-            redisTemplate.opsForSet().add(key, refreshToken);
-//        TTL 설정
-            redisTemplate.expire(key, 7, TimeUnit.DAYS);
-            return true;
-        } catch (Exception e) {
+        Long id = resolveMemberId(jwtTokenUtil.getMemberEmailFromToken(refreshToken));
+
+        if(!tokenStoreService.blacklist(id, refreshToken)) {
             return false;
         }
+//        검증 캐시에 남아 있지 않도록 비운다
+        jwtTokenUtil.invalidate(refreshToken);
+        return true;
     }
 
     @Override
     public boolean isBlacklistedRefreshToken(TokenDTO tokenDTO) {
-        Long id = tokenDTO.getMemberId();
-        String refreshToken = tokenDTO.getRefreshToken();
-        String key = BLACKLIST_TOKEN_PREFIX + id;
+        return tokenStoreService.checkRefreshToken(tokenDTO.getMemberId(), tokenDTO.getRefreshToken()) == RefreshTokenStatus.BLACKLISTED;
+    }
 
-        try {
-            Boolean isMember = redisTemplate.opsForSet().isMember(key, refreshToken);
-            return isMember != null && isMember;
-        } catch (Exception e) {
-            return false;
+    //  회원 ID 는 토큰 클레임에서, 회원 ID 클레임이 없던 이전 토큰만 DB 조회
+    private Long resolveMemberId(Claims claims) {
+        if(claims == null) {
+            throw new JwtTokenException("유효하지 않은 토큰");
+        }
+        Long memberId = jwtTokenUtil.getMemberIdFromClaims(claims);
+        if(memberId != null) {
+            return memberId;
         }
+        return memberDAO.findIdByMemberEmail((String)claims.get("memberEmail"));
     }
 }
@@ -0,0 +1,25 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.LikeResultDTO;
+import com.app.bluecotton.domain.vo.LikeTarget;
+
+import java.util.List;
+import java.util.Map;
+
+public interface LikeService {
+    //  좋아요 토글
+    public LikeResultDTO toggle(LikeTarget target, Long targetId, Long memberId);
+
+    //  좋아요 / 좋아요 취소 (이미 그 상태면 그대로)
+    public LikeResultDTO like(LikeTarget target, Long targetId, Long memberId);
+    public LikeResultDTO unlike(LikeTarget target, Long targetId, Long memberId);
+
+    //  좋아요 여부 + 좋아요 수 (memberId 가 null 이면 여부는 false)
+    public LikeResultDTO getLikeState(LikeTarget target, Long targetId, Long memberId);
+
+    //  Redis 에 올라와 있는 대상만 좋아요 상태 조회 (없는 대상은 결과에서 빠짐)
+    public Map<Long, LikeResultDTO> getLoadedLikeStates(LikeTarget target, List<Long> targetIds, Long memberId);
+
+    //  쌓인 좋아요 변경을 DB에 일괄 반영
+    public void flush();
+}
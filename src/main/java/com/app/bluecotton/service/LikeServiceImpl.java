@@ -0,0 +1,244 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.LikeResultDTO;
+import com.app.bluecotton.domain.vo.LikeTarget;
+import com.app.bluecotton.repository.LikeDAO;
+import com.app.bluecotton.util.RedisHashDrainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//  게시글 / 댓글 / 답글 / 솜 / 상품 좋아요
+//  대상별 좋아요 회원 집합을 Redis SET 에 두고 Lua 스크립트로 원자적으로 토글한다
+//  변경된 최종 상태만 해시에 모아 두었다가 스케줄러가 좋아요 테이블에 일괄 반영한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeServiceImpl implements LikeService {
+
+    private static final String KEY_PREFIX = "like:";
+    private static final String PENDING_KEY = "like:pending";
+    private static final String FLUSHING_KEY = "like:flushing";
+    //  좋아요가 하나도 없어도 SET 이 남아 있도록 넣어 두는 값 (좋아요 수에서 제외)
+    private static final String SENTINEL = "-";
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    //  KEYS[1] 좋아요 SET, KEYS[2] 변경 해시 / ARGV[1] 회원, ARGV[2] toggle|1|0, ARGV[3] 변경 필드, ARGV[4] TTL(초)
+    //  SET 이 아직 없으면 {-1, 0} (DB 에서 불러온 뒤 다시 호출)
+    private static final RedisScript<List> CHANGE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end "
+                    + "local liked = redis.call('SISMEMBER', KEYS[1], ARGV[1]) "
+                    + "local desired "
+                    + "if ARGV[2] == 'toggle' then desired = 1 - liked else desired = tonumber(ARGV[2]) end "
+                    + "if desired ~= liked then "
+                    + "  if desired == 1 then redis.call('SADD', KEYS[1], ARGV[1]) else redis.call('SREM', KEYS[1], ARGV[1]) end "
+                    + "  redis.call('HSET', KEYS[2], ARGV[3], desired) "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[4]) "
+                    + "return {desired, redis.call('SCARD', KEYS[1]) - 1}",
+            List.class
+    );
+
+    //  KEYS[1] 좋아요 SET / ARGV[1] 회원
+    private static final RedisScript<List> STATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {-1, 0} end "
+                    + "return {redis.call('SISMEMBER', KEYS[1], ARGV[1]), redis.call('SCARD', KEYS[1]) - 1}",
+            List.class
+    );
+
+    //  KEYS[1] 좋아요 SET / ARGV[1] TTL(초), ARGV[2..] 회원 (SENTINEL 포함)
+    //  다른 요청이 먼저 불러왔으면 덮어쓰지 않는다
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('SADD', KEYS[1], unpack(ARGV, 2)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LikeDAO likeDAO;
+    private final RedisHashDrainer redisHashDrainer;
+
+    //  좋아요 SET 보관 시간 (마지막 변경 기준)
+    @Value("${like.cache.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    @Override
+    public LikeResultDTO toggle(LikeTarget target, Long targetId, Long memberId) {
+        return change(target, targetId, memberId, "toggle");
+    }
+
+    @Override
+    public LikeResultDTO like(LikeTarget target, Long targetId, Long memberId) {
+        return change(target, targetId, memberId, "1");
+    }
+
+    @Override
+    public LikeResultDTO unlike(LikeTarget target, Long targetId, Long memberId) {
+        return change(target, targetId, memberId, "0");
+    }
+
+    @Override
+    public LikeResultDTO getLikeState(LikeTarget target, Long targetId, Long memberId) {
+        String member = memberId == null ? "" : String.valueOf(memberId);
+        try {
+            List<Long> result = execute(STATE_SCRIPT, key(target, targetId), member);
+            if (result.get(0) < 0) {
+                load(target, targetId);
+                result = execute(STATE_SCRIPT, key(target, targetId), member);
+            }
+            return new LikeResultDTO(result.get(0) == 1, result.get(1));
+        } catch (Exception e) {
+            log.warn("좋아요 상태 Redis 조회 실패, DB 조회: {} {}", target, targetId, e);
+            List<Long> memberIds = likeDAO.findLikeMemberIds(target, targetId);
+            return new LikeResultDTO(memberId != null && memberIds.contains(memberId), memberIds.size());
+        }
+    }
+
+    @Override
+    public Map<Long, LikeResultDTO> getLoadedLikeStates(LikeTarget target, List<Long> targetIds, Long memberId) {
+        Map<Long, LikeResultDTO> states = new HashMap<>();
+        if (targetIds == null || targetIds.isEmpty()) {
+            return states;
+        }
+        byte[] member = (memberId == null ? "" : String.valueOf(memberId)).getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                for (Long targetId : targetIds) {
+                    byte[] key = key(target, targetId).getBytes(StandardCharsets.UTF_8);
+                    connection.setCommands().sCard(key);
+                    connection.setCommands().sIsMember(key, member);
+                }
+                return null;
+            });
+            for (int i = 0; i < targetIds.size(); i++) {
+                long size = (Long) results.get(i * 2);
+                //  SENTINEL 이 없으면 아직 불러오지 않은 대상
+                if (size > 0) {
+                    states.put(targetIds.get(i), new LikeResultDTO(Boolean.TRUE.equals(results.get(i * 2 + 1)), size - 1));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 상태 일괄 조회 실패: {}", target, e);
+        }
+        return states;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void flush() {
+        redisHashDrainer.drain(PENDING_KEY, FLUSHING_KEY, this::applyChanges);
+    }
+
+    private void applyChanges(Map<String, String> entries) {
+        Map<LikeTarget, List<Map<String, Long>>> inserts = new EnumMap<>(LikeTarget.class);
+        Map<LikeTarget, List<Map<String, Long>>> deletes = new EnumMap<>(LikeTarget.class);
+        Set<Long> changedPostIds = new LinkedHashSet<>();
+        entries.forEach((field, value) -> {
+            //  필드 : 대상:대상ID:회원ID
+            String[] parts = field.split(":");
+            LikeTarget target = LikeTarget.valueOf(parts[0]);
+            Map<String, Long> like = new HashMap<>();
+            like.put("targetId", Long.valueOf(parts[1]));
+            like.put("memberId", Long.valueOf(parts[2]));
+            (("1".equals(value)) ? inserts : deletes).computeIfAbsent(target, (key) -> new ArrayList<>()).add(like);
+            if (target == LikeTarget.POST) {
+                changedPostIds.add(like.get("targetId"));
+            }
+        });
+
+        inserts.forEach((target, likes) -> chunk(likes).forEach((chunk) -> likeDAO.insertLikes(target, chunk)));
+        deletes.forEach((target, likes) -> chunk(likes).forEach((chunk) -> likeDAO.deleteLikes(target, chunk)));
+        if (!changedPostIds.isEmpty()) {
+            chunk(new ArrayList<>(changedPostIds)).forEach(likeDAO::refreshPostLikeCounts);
+        }
+        log.debug("좋아요 반영: {}건", entries.size());
+    }
+
+    private LikeResultDTO change(LikeTarget target, Long targetId, Long memberId, String mode) {
+        String field = target.name() + ":" + targetId + ":" + memberId;
+        try {
+            List<Long> result = execute(CHANGE_SCRIPT, List.of(key(target, targetId), PENDING_KEY),
+                    String.valueOf(memberId), mode, field, String.valueOf(ttlSeconds));
+            if (result.get(0) < 0) {
+                load(target, targetId);
+                result = execute(CHANGE_SCRIPT, List.of(key(target, targetId), PENDING_KEY),
+                        String.valueOf(memberId), mode, field, String.valueOf(ttlSeconds));
+            }
+            return new LikeResultDTO(result.get(0) == 1, result.get(1));
+        } catch (Exception e) {
+            // Redis 장애 시 DB에 바로 반영
+            log.warn("좋아요 Redis 반영 실패, DB 직접 반영: {}", field, e);
+            return changeInDatabase(target, targetId, memberId, mode);
+        }
+    }
+
+    private LikeResultDTO changeInDatabase(LikeTarget target, Long targetId, Long memberId, String mode) {
+        List<Long> memberIds = likeDAO.findLikeMemberIds(target, targetId);
+        boolean liked = memberIds.contains(memberId);
+        boolean desired = "toggle".equals(mode) ? !liked : "1".equals(mode);
+        if (desired != liked) {
+            Map<String, Long> like = new HashMap<>();
+            like.put("targetId", targetId);
+            like.put("memberId", memberId);
+            if (desired) {
+                likeDAO.insertLikes(target, List.of(like));
+            } else {
+                likeDAO.deleteLikes(target, List.of(like));
+            }
+            if (target == LikeTarget.POST) {
+                likeDAO.refreshPostLikeCounts(List.of(targetId));
+            }
+        }
+        long count = memberIds.size() + (desired == liked ? 0 : desired ? 1 : -1);
+        return new LikeResultDTO(desired, count);
+    }
+
+    //  DB 의 좋아요 회원 목록을 SET 으로 올림
+    private void load(LikeTarget target, Long targetId) {
+        List<Long> memberIds = likeDAO.findLikeMemberIds(target, targetId);
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.add(SENTINEL);
+        memberIds.forEach((memberId) -> args.add(String.valueOf(memberId)));
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(target, targetId)), args.toArray());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> execute(RedisScript<List> script, String key, String... args) {
+        return execute(script, List.of(key), (Object[]) args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> execute(RedisScript<List> script, List<String> keys, Object... args) {
+        return (List<Long>) redisTemplate.execute(script, keys, args);
+    }
+
+    private String key(LikeTarget target, Long targetId) {
+        return KEY_PREFIX + target.name().toLowerCase() + ":" + targetId;
+    }
+
+    private <T> List<List<T>> chunk(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += FLUSH_CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, items.size())));
+        }
+        return chunks;
+    }
+}
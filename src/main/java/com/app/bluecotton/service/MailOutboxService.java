@@ -0,0 +1,11 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.MailMessageDTO;
+
+public interface MailOutboxService {
+    //  메일을 발송 대기열에 넣는다 (요청 스레드는 기다리지 않는다)
+    public void enqueue(MailMessageDTO mailMessageDTO);
+
+    //  대기열에서 꺼내 묶음으로 발송, 꺼낸 메일 수 반환
+    public int dispatch();
+}
@@ -0,0 +1,237 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.MailMessageDTO;
+import com.app.bluecotton.util.SmsUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.mail.MailSendException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+//  메일 발송 대기열
+//  대기 리스트에서 서버별 처리 중 리스트로 LMOVE 해서 꺼내고, 발송(SMTP 연결 하나로 묶음)이 끝난 뒤에 처리 중 리스트에서 지운다
+//  실패한 메일은 다음 시도 시각을 점수로 ZSET 에 넣어 두었다가 시각이 되면 대기 리스트로 돌린다
+//  서버가 죽으면 생존 키가 만료되고, 다른 서버가 그 서버의 처리 중 리스트를 대기 리스트로 되돌린다
+@Slf4j
+@Service
+public class MailOutboxServiceImpl implements MailOutboxService {
+
+    private static final String PROCESSING_SUFFIX = ":processing:";
+    private static final String DELAYED_SUFFIX = ":delayed";
+    private static final String NODES_SUFFIX = ":nodes";
+    private static final String ALIVE_SUFFIX = ":alive:";
+    private static final Duration ALIVE_TTL = Duration.ofSeconds(60);
+
+    //  KEYS[1] 대기 리스트, KEYS[2] 처리 중 리스트, KEYS[3] 재시도 ZSET / ARGV[1] 현재 시각(ms), ARGV[2] 최대 개수
+    //  시각이 된 재시도 메일을 대기 리스트 끝으로 옮긴 뒤, 대기 리스트 앞에서 최대 개수만큼 처리 중 리스트로 옮겨 반환
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<String>> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local max = tonumber(ARGV[2]) "
+                    + "local due = redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', ARGV[1], 'LIMIT', 0, max) "
+                    + "for _, payload in ipairs(due) do "
+                    + "  redis.call('RPUSH', KEYS[1], payload) "
+                    + "  redis.call('ZREM', KEYS[3], payload) "
+                    + "end "
+                    + "local claimed = {} "
+                    + "for i = 1, max do "
+                    + "  local payload = redis.call('LMOVE', KEYS[1], KEYS[2], 'LEFT', 'RIGHT') "
+                    + "  if not payload then break end "
+                    + "  claimed[#claimed + 1] = payload "
+                    + "end "
+                    + "return claimed",
+            (Class<List<String>>) (Class<?>) List.class
+    );
+
+    //  KEYS[1] 처리 중 리스트, KEYS[2] 재시도 ZSET / ARGV[1] 메일, ARGV[2] 다음 시도 메일, ARGV[3] 다음 시도 시각(ms)
+    private static final RedisScript<Long> RETRY_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('LREM', KEYS[1], 1, ARGV[1]) "
+                    + "redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 처리 중 리스트, KEYS[2] 대기 리스트 / ARGV[1] 메일
+    //  발송 스레드가 모두 바빠 보내지 못한 메일을 대기 리스트 앞으로 되돌린다
+    private static final RedisScript<Long> RETURN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('LREM', KEYS[1], 1, ARGV[1]) == 1 then redis.call('LPUSH', KEYS[2], ARGV[1]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 처리 중 리스트, KEYS[2] 대기 리스트
+    //  멈춘 서버의 처리 중 메일을 모두 대기 리스트 앞으로 되돌린다
+    private static final RedisScript<Long> RECOVER_SCRIPT = new DefaultRedisScript<>(
+            "local moved = 0 "
+                    + "while redis.call('LMOVE', KEYS[1], KEYS[2], 'RIGHT', 'LEFT') do moved = moved + 1 end "
+                    + "return moved",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SmsUtil smsUtil;
+    private final Executor mailSendExecutor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final String outboxKey;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public MailOutboxServiceImpl(
+            RedisTemplate<String, String> redisTemplate,
+            SmsUtil smsUtil,
+            @Qualifier("mailSendExecutor") Executor mailSendExecutor,
+            @Value("${mail.outbox.batch-size:20}") int batchSize,
+            @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+            @Value("${mail.outbox.retry-delay-ms:30000}") long retryDelayMillis,
+            @Value("${mail.outbox.key:mail:outbox}") String outboxKey
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.smsUtil = smsUtil;
+        this.mailSendExecutor = mailSendExecutor;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelayMillis = retryDelayMillis;
+        this.outboxKey = outboxKey;
+    }
+
+    @Override
+    public void enqueue(MailMessageDTO mailMessageDTO) {
+        redisTemplate.opsForList().rightPush(outboxKey, toJson(mailMessageDTO));
+    }
+
+    @Override
+    public int dispatch() {
+        heartbeat();
+        recoverStoppedNodes();
+
+        String processingKey = processingKey(nodeId);
+        List<String> payloads = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(outboxKey, processingKey, outboxKey + DELAYED_SUFFIX),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(batchSize));
+        if (payloads == null || payloads.isEmpty()) {
+            return 0;
+        }
+        try {
+            mailSendExecutor.execute(() -> send(payloads));
+        } catch (TaskRejectedException e) {
+            //  발송 스레드가 모두 바쁘면 다음 주기에
+            log.warn("메일 발송 스레드 풀 가득 참, 대기열로 되돌림: {}건", payloads.size());
+            for (int i = payloads.size() - 1; i >= 0; i--) {
+                redisTemplate.execute(RETURN_SCRIPT, List.of(processingKey, outboxKey), payloads.get(i));
+            }
+        }
+        return payloads.size();
+    }
+
+    private void send(List<String> payloads) {
+        Map<MimeMessage, String> messages = new IdentityHashMap<>();
+        for (String payload : payloads) {
+            try {
+                messages.put(smsUtil.createMessage(objectMapper.readValue(payload, MailMessageDTO.class)), payload);
+            } catch (Exception e) {
+                log.error("메일 작성 실패, 버림: {}", payload, e);
+                ack(payload);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            smsUtil.send(messages.keySet().toArray(new MimeMessage[0]));
+            messages.values().forEach(this::ack);
+        } catch (MailSendException e) {
+            //  실패한 메일만 재시도 (연결 자체가 실패하면 전부)
+            Map<Object, Exception> failed = e.getFailedMessages();
+            messages.forEach((message, payload) -> {
+                if (failed.isEmpty() || failed.containsKey(message)) {
+                    retry(payload);
+                } else {
+                    ack(payload);
+                }
+            });
+            log.warn("메일 발송 실패: {}건", failed.isEmpty() ? messages.size() : failed.size(), e);
+        } catch (Exception e) {
+            messages.values().forEach(this::retry);
+            log.warn("메일 발송 실패: {}건", messages.size(), e);
+        }
+    }
+
+    //  발송 완료 (또는 버림) - 처리 중 리스트에서 지운다
+    private void ack(String payload) {
+        try {
+            redisTemplate.opsForList().remove(processingKey(nodeId), 1, payload);
+        } catch (Exception e) {
+            log.error("메일 처리 완료 반영 실패: {}", payload, e);
+        }
+    }
+
+    //  재시도 간격은 실패할 때마다 두 배로
+    private void retry(String payload) {
+        try {
+            MailMessageDTO mail = objectMapper.readValue(payload, MailMessageDTO.class);
+            if (mail.getAttempts() + 1 >= maxAttempts) {
+                log.error("메일 발송 재시도 초과, 버림: {}", mail.getTo());
+                ack(payload);
+                return;
+            }
+            long delay = retryDelayMillis << Math.min(mail.getAttempts(), 10);
+            mail.setAttempts(mail.getAttempts() + 1);
+            redisTemplate.execute(RETRY_SCRIPT, List.of(processingKey(nodeId), outboxKey + DELAYED_SUFFIX),
+                    payload, toJson(mail), String.valueOf(System.currentTimeMillis() + delay));
+        } catch (Exception e) {
+            //  처리 중 리스트에 남아 있으므로 이 서버가 멈추면 다른 서버가 되돌린다
+            log.error("메일 재시도 등록 실패: {}", payload, e);
+        }
+    }
+
+    private void heartbeat() {
+        redisTemplate.opsForValue().set(outboxKey + ALIVE_SUFFIX + nodeId, "1", ALIVE_TTL);
+        redisTemplate.opsForSet().add(outboxKey + NODES_SUFFIX, nodeId);
+    }
+
+    //  생존 키가 만료된 서버의 처리 중 메일을 대기 리스트로 되돌린다
+    private void recoverStoppedNodes() {
+        Set<String> nodes = redisTemplate.opsForSet().members(outboxKey + NODES_SUFFIX);
+        if (nodes == null) {
+            return;
+        }
+        for (String node : nodes) {
+            if (node.equals(nodeId) || Boolean.TRUE.equals(redisTemplate.hasKey(outboxKey + ALIVE_SUFFIX + node))) {
+                continue;
+            }
+            Long moved = redisTemplate.execute(RECOVER_SCRIPT, List.of(processingKey(node), outboxKey));
+            redisTemplate.opsForSet().remove(outboxKey + NODES_SUFFIX, node);
+            if (moved != null && moved > 0) {
+                log.warn("멈춘 서버의 처리 중 메일 되돌림: {} {}건", node, moved);
+            }
+        }
+    }
+
+    private String processingKey(String node) {
+        return outboxKey + PROCESSING_SUFFIX + node;
+    }
+
+    private String toJson(MailMessageDTO mail) {
+        try {
+            return objectMapper.writeValueAsString(mail);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -16,12 +16,18 @@ public interface MemberService {
     // 회원 정보 조회
     public MemberResponseDTO getMemberById(Long id);
 
+    // 회원 정보 일괄 조회
+    public List<MemberResponseDTO> getMembersByIds(List<Long> ids);
+
     // 이메일 중복 확인
     public boolean existsByMemberEmail(String memberEmail);
 
     //  멤버 프로필 이미지 가져오기
     public MemberProfileVO getMemberProfileImage(Long memberId);
 
+    //  멤버 프로필 이미지 일괄 가져오기
+    public List<MemberProfileVO> getMemberProfileImages(List<Long> memberIds);
+
     //  멤버 이메일 조회
     public String getMemberEmailByNameAndPhone(String memberName, String memberPhone);
 
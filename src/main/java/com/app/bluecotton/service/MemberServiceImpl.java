@@ -1,5 +1,6 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
 import com.app.bluecotton.domain.dto.MemberResponseDTO;
 import com.app.bluecotton.domain.vo.member.MemberInsertSocialVO;
 import com.app.bluecotton.domain.vo.member.MemberProfileVO;
@@ -9,7 +10,9 @@ import com.app.bluecotton.exception.MemberException;
 import com.app.bluecotton.repository.MemberDAO;
 import com.app.bluecotton.util.JwtTokenUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +28,9 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberDAO memberDAO;
     private final MemberSocialService memberSocialService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenUtil jwtTokenUtil;
+    private final TokenStoreService tokenStoreService;
 
     // 이메일 중복 조회
     @Override
@@ -34,8 +38,9 @@ public class MemberServiceImpl implements MemberService {
         return memberDAO.existsByMemberEmail(memberEmail);
     }
 
-    // 회원가입
+    // 회원가입 (같은 이메일로 탈퇴 전 남아 있던 회원 ID 캐시 비움)
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_ID_CACHE, key = "#memberVO.memberEmail")
     public Map<String, String> register(MemberVO memberVO) {
 
         // 1. 이메일 중복검사
@@ -50,7 +55,7 @@ public class MemberServiceImpl implements MemberService {
         }
 
         // 2. 비밀번호 암호화
-        memberVO.setMemberPassword(passwordEncoder.encode(memberVO.getMemberPassword()));
+        memberVO.setMemberPassword(passwordHasher.encode(memberVO.getMemberPassword()));
 
         // 3. 회원 가입
         memberDAO.save(memberVO);
@@ -71,6 +76,7 @@ public class MemberServiceImpl implements MemberService {
 
     // 회원가입 소셜 (비밀번호가 없다)
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_ID_CACHE, key = "#memberInsertSocialVO.memberEmail")
     public Map<String, String> registerSocial(
             MemberInsertSocialVO memberInsertSocialVO,
             MemberSocialVO memberSocialVO
@@ -102,6 +108,8 @@ public class MemberServiceImpl implements MemberService {
 
         memberDAO.saveInsertDefaultProfileImage(defaultProfileVO);
 
+        claim.put("memberEmail", memberEmail);
+        claim.put("memberId", String.valueOf(memberId));
         String refreshToken = jwtTokenUtil.generateRefreshToken(claim);
         String accessToken = jwtTokenUtil.generateAccessToken(claim);
 
@@ -118,23 +126,44 @@ public class MemberServiceImpl implements MemberService {
 
     // 회원 이메일로 아이디 조회
     @Override
+    @Cacheable(cacheNames = CacheConfig.MEMBER_ID_CACHE, key = "#memberEmail", unless = "#result == null")
     public Long getMemberIdByMemberEmail(String memberEmail) {
         return memberDAO.findIdByMemberEmail(memberEmail);
     }
 
-    // 회원 조회
+    // 회원 조회 (수정 / 탈퇴 / 캔디 사용 때 비움)
     @Override
+    @Cacheable(cacheNames = CacheConfig.MEMBER_PRINCIPAL_CACHE, key = "#id")
     public MemberResponseDTO getMemberById(Long id) {
         return memberDAO.findById(id).map(MemberResponseDTO::new).orElseThrow(() -> new MemberException("회원 조회 실패"));
     }
 
-    //  회원 프로필 사진 조회
+    // 회원 일괄 조회
     @Override
+    public List<MemberResponseDTO> getMembersByIds(List<Long> ids) {
+        if(ids.isEmpty()) {
+            return List.of();
+        }
+        return memberDAO.findByIds(ids).stream().map(MemberResponseDTO::new).toList();
+    }
+
+    //  회원 프로필 사진 조회 (정보 수정 / 탈퇴 때 비움)
+    @Override
+    @Cacheable(cacheNames = CacheConfig.MEMBER_PROFILE_CACHE, key = "#memberId")
     public MemberProfileVO getMemberProfileImage(Long memberId) {
 
         return memberDAO.findMemberProfileImage(memberId).orElseThrow(() -> new MemberException("프로필 이미지 조회 실패"));
     }
 
+    //  회원 프로필 사진 일괄 조회
+    @Override
+    public List<MemberProfileVO> getMemberProfileImages(List<Long> memberIds) {
+        if(memberIds.isEmpty()) {
+            return List.of();
+        }
+        return memberDAO.findMemberProfileImages(memberIds);
+    }
+
     //  회원 이메일 조회
     @Override
     public String getMemberEmailByNameAndPhone(String memberName, String memberPhone) {
@@ -152,7 +181,13 @@ public class MemberServiceImpl implements MemberService {
 
     // 회원 정보 수정
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_PRINCIPAL_CACHE, key = "#memberVO.id")
     public void modify(MemberVO memberVO) {
+        //  비밀번호는 바뀐 경우에만 해시 (update 는 비밀번호 컬럼도 항상 덮어쓴다)
+        String storedPassword = memberDAO.findById(memberVO.getId())
+                .map(MemberVO::getMemberPassword)
+                .orElseThrow(() -> new MemberException("회원이 없습니다"));
+        memberVO.setMemberPassword(passwordHasher.encodeIfChanged(memberVO.getMemberPassword(), storedPassword));
         memberDAO.update(memberVO);
     }
 
@@ -160,14 +195,21 @@ public class MemberServiceImpl implements MemberService {
     //  회원 비밀번호 재설정
     @Override
     public void resetPassword(String memberEmail, String newPassword) {
-        String encoded = passwordEncoder.encode(newPassword);
+        String encoded = passwordHasher.encode(newPassword);
         memberDAO.updatePassword(memberEmail, encoded);
     }
 
     // 회원 탈퇴
+    // 이메일 → ID 캐시는 남아도 회원 조회에서 걸러지고, 같은 이메일로 재가입하면 비워진다
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_PRINCIPAL_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_PROFILE_CACHE, key = "#id")
+    })
     public void withdraw(Long id) {
         memberDAO.delete(id);
+        // 남은 Refresh 토큰으로 재발급되지 않도록
+        tokenStoreService.removeMember(id);
     }
 }
 
@@ -1,11 +1,16 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
 import com.app.bluecotton.domain.dto.*;
 import com.app.bluecotton.domain.vo.member.MemberVO;
 import com.app.bluecotton.exception.MemberException;
 import com.app.bluecotton.repository.MemberDAO;
 import com.app.bluecotton.repository.MyPageInfoDAO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -16,6 +21,9 @@ import java.util.Optional;
 public class MyPageInfoServiceImpl implements MyPageInfoService {
     private final MyPageInfoDAO myPageInfoDAO;
     private final MemberDAO memberDAO;
+    private final CacheManager cacheManager;
+    private final TokenStoreService tokenStoreService;
+    private final PasswordHasher passwordHasher;
 
     //    회원정보 조회
     @Override
@@ -25,6 +33,10 @@ public class MyPageInfoServiceImpl implements MyPageInfoService {
 
     //    회원정보 수정
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_PROFILE_CACHE, key = "#info.id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_PRINCIPAL_CACHE, key = "#info.id")
+    })
     public void updateInfo(MyPageInfoDTO info) {
         Optional<MemberVO> origin = memberDAO.findById(info.getId());
 
@@ -40,13 +52,31 @@ public class MyPageInfoServiceImpl implements MyPageInfoService {
             throw new MemberException("이미 존재하는 전화번호 입니다");
         }
 
+        // 비밀번호는 바뀐 경우에만 해시해서 저장
+        if (info.getMemberPassword() != null) {
+            info.setMemberPassword(passwordHasher.encodeIfChanged(info.getMemberPassword(), origin.get().getMemberPassword()));
+        }
+
         myPageInfoDAO.updateMemberInfo(info);
         myPageInfoDAO.updateMemberProfile(info);
+
+        // 이메일이 바뀌면 이전 이메일 → ID 캐시 비움
+        if (info.getMemberEmail() != null && !Objects.equals(origin.get().getMemberEmail(), info.getMemberEmail())) {
+            Cache cache = cacheManager.getCache(CacheConfig.MEMBER_ID_CACHE);
+            if (cache != null) {
+                cache.evict(origin.get().getMemberEmail());
+            }
+        }
     }
     //    회원 탈퇴 시 관련 데이터 전체 삭제
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_PROFILE_CACHE, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.MEMBER_PRINCIPAL_CACHE, key = "#id")
+    })
     public void deleteMemberCascade(Long id) {
         myPageInfoDAO.deleteMemberCascade(id);
+        tokenStoreService.removeMember(id);
     }
 
 }
@@ -11,6 +11,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MyPagePostServiceImpl implements MyPagePostService {
     private final MyPagePostDAO myPagePostDAO;
+    private final PostRecentService postRecentService;
+    private final PostDraftService postDraftService;
 
     //    마이페이지 내가 쓴 글
     @Override
@@ -39,7 +41,7 @@ public class MyPagePostServiceImpl implements MyPagePostService {
     //    마이페이지 내가 최근에 본 글
     @Override
     public List<MyPagePostRecentDTO> readPostRecent(Long id) {
-        return myPagePostDAO.readPostRecent(id);
+        return postRecentService.getRecentPosts(id);
     }
 
     //    내가 작성한 글 삭제
@@ -60,9 +62,9 @@ public class MyPagePostServiceImpl implements MyPagePostService {
 
     //    내가 임시저장한 글 삭제
     @Override
-    public void deletePostSave(Long id){ myPagePostDAO.deletePostSave(id); };
+    public void deletePostSave(Long id){ postDraftService.deleteDraft(id); };
 
     //    내가 최근에 본 글 삭제
     @Override
-    public void deletePostRecent(Long memberId, Long postId){ myPagePostDAO.deletePostRecent(memberId, postId); };
+    public void deletePostRecent(Long memberId, Long postId){ postRecentService.remove(memberId, postId); };
 }
@@ -18,6 +18,8 @@ public interface MyPageSomService {
     public List<MyPageSomCheckDTO> readSomCheck(Long id);
     //    마이페이지 솜 리뷰 호출
     public List<MyPageSomReviewDTO> readSomReview(Long id);
+    //    솜장 리뷰 일괄 호출
+    public List<MyPageSomReviewDTO> readSomReviewByMemberIds(List<Long> memberIds);
     //    마이페이지 랭크 호출
     public Long readRank(Long id);
     // 특정 솜 참가 취소
@@ -5,6 +5,7 @@ import com.app.bluecotton.domain.vo.som.SomReviewVO;
 import com.app.bluecotton.domain.vo.som.SomVO;
 import com.app.bluecotton.mapper.MyPageSomMapper;
 import com.app.bluecotton.repository.MyPageSomDAO;
+import com.app.bluecotton.repository.SequenceDAO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ import java.util.List;
 public class MyPageSomServiceImpl implements MyPageSomService {
     private final MyPageSomDAO myPageSomDAO;
     private final MyPageSomMapper myPageSomMapper;
+    private final SequenceDAO sequenceDAO;
 
     //    마이페이지 회원 별 파티솜 솔로솜 조회
     @Override
@@ -29,12 +31,15 @@ public class MyPageSomServiceImpl implements MyPageSomService {
         // 1. SomCheck 저장 → somCheckId 세팅됨
         myPageSomMapper.insertSomCheck(dto);
 
-        // 2. 이미지들 저장
-        if (dto.getImages() != null) {
-            for (MyPageSomCheckImageDTO image : dto.getImages()) {
-                image.setSomCheckId(dto.getSomCheckId());
-                myPageSomMapper.insertSomCheckImage(image);
+        // 2. 이미지들 저장 (ID 한 번에 발급 후 INSERT ALL 한 번)
+        List<MyPageSomCheckImageDTO> images = dto.getImages();
+        if (images != null && !images.isEmpty()) {
+            List<Long> imageIds = sequenceDAO.nextValues("SEQ_SOM_CHECK_IMAGE", images.size());
+            for (int i = 0; i < images.size(); i++) {
+                images.get(i).setId(imageIds.get(i));
+                images.get(i).setSomCheckId(dto.getSomCheckId());
             }
+            myPageSomMapper.insertSomCheckImages(images);
         }
     }
 
@@ -54,6 +59,15 @@ public class MyPageSomServiceImpl implements MyPageSomService {
     @Override
     public List<MyPageSomReviewDTO> readSomReview(Long id){ return myPageSomDAO.readSomReview(id); }
 
+    //    솜장 리뷰 일괄 호출
+    @Override
+    public List<MyPageSomReviewDTO> readSomReviewByMemberIds(List<Long> memberIds){
+        if(memberIds.isEmpty()) {
+            return List.of();
+        }
+        return myPageSomDAO.readSomReviewByMemberIds(memberIds);
+    }
+
     //    마이페이지 랭크 호출
     @Override
     public Long readRank(Long id){ return myPageSomDAO.readRank(id); }
@@ -0,0 +1,163 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.exception.MemberException;
+import com.app.bluecotton.repository.MemberDAO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+//  비밀번호 해시 / 비교 - 요청 스레드 대신 코어 수만큼의 전용 스레드 풀에서 실행한다
+//  가입 / 로그인이 몰려도 해시 계산이 다른 요청의 CPU 를 다 쓰지 않도록, 대기가 길어지면 바로 실패시킨다
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    //  BCrypt 형식이 아니면 예전 정보 수정 경로가 평문으로 저장한 비밀번호 - 로그인에 성공하면 BCrypt 로 바꿔 저장한다
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+    private final PasswordEncoder passwordEncoder;
+    private final MemberDAO memberDAO;
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+    private final long timeoutMillis;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MemberDAO memberDAO,
+            @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+            @Value("${security.password.hash.timeout-ms:3000}") long timeoutMillis
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.memberDAO = memberDAO;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        if (!isBcrypt(encodedPassword)) {
+            return MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    encodedPassword.getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    //  정보 수정 폼은 조회한 비밀번호를 그대로 돌려보내므로 바뀐 경우에만 해시한다 - 저장할 비밀번호
+    public String encodeIfChanged(String rawPassword, String storedPassword) {
+        if (rawPassword == null || rawPassword.equals(storedPassword)) {
+            return storedPassword;
+        }
+        return encode(rawPassword);
+    }
+
+    //  평문으로 저장돼 있거나 설정된 해시 비용이 바뀌었으면 로그인에 성공한 비밀번호로 다시 해시해 저장한다
+    //  로그인 응답을 기다리게 하지 않도록 스레드 풀에 넘기고, 풀이 가득 차면 다음 로그인으로 미룬다
+    public void rehashIfNeeded(String memberEmail, String rawPassword, String encodedPassword) {
+        if (isBcrypt(encodedPassword) && !passwordEncoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            passwordHashExecutor.execute(() -> {
+                try {
+                    //  그사이 비밀번호가 재설정됐으면 이전 비밀번호의 해시로 덮어쓰지 않는다
+                    if (memberDAO.updatePasswordIfUnchanged(memberEmail, encodedPassword, passwordEncoder.encode(rawPassword)) > 0) {
+                        rehashed.increment();
+                    }
+                } catch (Exception e) {
+                    log.warn("비밀번호 재해시 실패: {}", memberEmail, e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("비밀번호 재해시 보류 (대기열 가득 참): {}", memberEmail);
+        }
+    }
+
+    private boolean isBcrypt(String encodedPassword) {
+        return encodedPassword != null && BCRYPT_PATTERN.matcher(encodedPassword).matches();
+    }
+
+    //  해시 작업 수, 거절 / 시간 초과 수, 평균 / 최대 소요 시간(ms), 현재 실행 / 대기 중인 작업 수
+    public Map<String, Object> getStats() {
+        long calls = submitted.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("count", calls);
+        stats.put("rejected", rejected.sum());
+        stats.put("timedOut", timedOut.sum());
+        stats.put("rehashed", rehashed.sum());
+        stats.put("avgMillis", calls == 0 ? 0.0 : totalNanos.sum() / (double) calls / 1_000_000);
+        stats.put("maxMillis", maxNanos.get() / 1_000_000.0);
+        stats.put("active", passwordHashExecutor.getActiveCount());
+        stats.put("queued", passwordHashExecutor.getQueueSize());
+        return stats;
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    totalNanos.add(elapsed);
+                    maxNanos.accumulate(elapsed);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 가득 참");
+            throw new MemberException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+        }
+        submitted.increment();
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            //  아직 대기 중이면 실행하지 않도록 취소
+            future.cancel(false);
+            timedOut.increment();
+            log.warn("비밀번호 해시 시간 초과: {}ms", timeoutMillis);
+            throw new MemberException("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberException("비밀번호를 확인하지 못했습니다");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new MemberException("비밀번호를 확인하지 못했습니다");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
 import com.app.bluecotton.domain.dto.*;
 import com.app.bluecotton.domain.vo.shop.DeliveryStatus;
 import com.app.bluecotton.domain.vo.shop.DeliveryVO;
@@ -15,6 +16,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -215,7 +217,9 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
+    //  캔디가 바뀌므로 로그인 회원 캐시 비움 (커밋 후)
     @Override
+    @CacheEvict(cacheNames = CacheConfig.MEMBER_PRINCIPAL_CACHE, key = "#memberId")
     public void payWithCandy(Long memberId, Long orderId) {
         OrderVO order = orderDAO.selectOrderById(orderId, memberId)
                 .orElseThrow(() -> new IllegalArgumentException("주문 없음"));
@@ -0,0 +1,26 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.vo.post.PostDraftVO;
+
+public interface PostDraftService {
+    //  자동 저장 (회원 / 솜별 작업 중인 임시저장, DB 반영은 입력이 멈춘 뒤 일괄로)
+    public PostDraftVO autosave(PostDraftVO postDraftVO);
+
+    //  임시저장 버튼 (바로 DB 반영) - 임시저장 ID
+    public Long save(PostDraftVO postDraftVO);
+
+    //  작업 중인 임시저장 (없으면 null)
+    public PostDraftVO getWorkingDraft(Long memberId, Long somId);
+
+    //  임시저장 조회 (아직 DB에 반영되지 않은 자동 저장 내용 포함)
+    public PostDraftVO getDraft(Long id);
+
+    //  임시저장 삭제
+    public void deleteDraft(Long id);
+
+    //  게시글 등록 시 임시저장 소비 (작업 중인 임시저장 + DB 임시저장, 롤백되면 작업 중인 임시저장 복구)
+    public void consume(Long memberId, Long somId, Long draftId);
+
+    //  입력이 멈춘 자동 저장을 DB에 반영
+    public void flush();
+}
@@ -0,0 +1,327 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.vo.post.PostDraftVO;
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.util.RedisLock;
+import com.app.bluecotton.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//  게시글 임시저장 자동 저장
+//  작업 중인 임시저장은 회원 / 솜별 Redis 해시 하나에 덮어쓰고, 마지막 입력 시각을 dirty Sorted Set 에 기록한다
+//  스케줄러는 입력이 debounce 시간 이상 멈춘 임시저장만 TBL_POST_DRAFT 에 반영하므로 몇 초 간격 자동 저장도 DB 쓰기는 한 번이다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostDraftServiceImpl implements PostDraftService {
+
+    private static final String KEY_PREFIX = "post:draft:";
+    private static final String DIRTY_KEY = "post:draft:dirty";
+    private static final int FLUSH_BATCH_SIZE = 200;
+    //  같은 임시저장을 여러 서버 / 요청이 동시에 DB 에 반영하면 새 임시저장이 두 번 등록되므로 회원 / 솜별로 잡는다
+    private static final String PERSIST_LOCK_PREFIX = "post:draft:lock:";
+    private static final Duration PERSIST_LOCK_TTL = Duration.ofSeconds(30);
+    private static final long SAVE_LOCK_WAIT_MILLIS = 2000;
+
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String DRAFT_ID = "draftId";
+    private static final String UPDATED_AT = "updatedAt";
+
+    //  KEYS[1] 임시저장, KEYS[2] dirty / ARGV[1] dirty 멤버 - 작업 중인 임시저장을 꺼내면서 삭제 (반영 대기에서도 제외)
+    @SuppressWarnings("unchecked")
+    private static final RedisScript<List<Object>> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local draft = redis.call('HGETALL', KEYS[1]) "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('ZREM', KEYS[2], ARGV[1]) "
+                    + "return draft",
+            (Class<List<Object>>) (Class<?>) List.class
+    );
+
+    //  KEYS[1] 임시저장, KEYS[2] dirty / ARGV[1] dirty 멤버, ARGV[2] 임시저장 ID - DB 임시저장과 같은 글일 때만 삭제
+    private static final RedisScript<Long> DISCARD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'draftId') ~= ARGV[2] then return 0 end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('ZREM', KEYS[2], ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 임시저장 / ARGV[1] 임시저장 ID - DB 반영 중에 소비 / 삭제됐으면 0
+    private static final RedisScript<Long> ATTACH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('HSET', KEYS[1], 'draftId', ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] dirty / ARGV[1] dirty 멤버, ARGV[2] 반영한 입력 시각 - 반영하는 사이 다시 입력됐으면 남겨 둔다
+    private static final RedisScript<Long> CLEAN_SCRIPT = new DefaultRedisScript<>(
+            "local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+                    + "if score and tonumber(score) <= tonumber(ARGV[2]) then redis.call('ZREM', KEYS[1], ARGV[1]) return 1 end "
+                    + "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostDAO postDAO;
+    private final RedisLock redisLock;
+
+    //  마지막 입력 후 이 시간 동안 추가 입력이 없으면 DB 반영
+    @Value("${post.draft.debounce-ms:30000}")
+    private long debounceMillis;
+
+    @Value("${post.draft.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    @Override
+    public PostDraftVO autosave(PostDraftVO postDraftVO) {
+        try {
+            write(postDraftVO);
+            return getWorkingDraft(postDraftVO.getMemberId(), postDraftVO.getSomId());
+        } catch (Exception e) {
+            // Redis 장애 시 바로 DB 반영
+            log.warn("임시저장 Redis 저장 실패, DB 직접 반영: memberId={}", postDraftVO.getMemberId(), e);
+            persist(postDraftVO);
+            return postDraftVO;
+        }
+    }
+
+    @Override
+    public Long save(PostDraftVO postDraftVO) {
+        String member = member(postDraftVO.getMemberId(), postDraftVO.getSomId());
+        try {
+            long updatedAt = write(postDraftVO);
+            Long draftId = persistWorkingDraftLocked(member, updatedAt, SAVE_LOCK_WAIT_MILLIS);
+            if (draftId == null) {
+                //  락을 기다리다 놓쳤으면 먼저 반영한 쪽이 붙여둔 ID 를 쓰고, 남은 입력은 dirty 에 남아 스케줄러가 반영한다
+                HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+                draftId = parseId(hash.get(KEY_PREFIX + member, DRAFT_ID));
+            }
+            if (draftId != null) {
+                return draftId;
+            }
+        } catch (Exception e) {
+            log.warn("임시저장 Redis 저장 실패, DB 직접 반영: memberId={}", postDraftVO.getMemberId(), e);
+        }
+        persist(postDraftVO);
+        return postDraftVO.getId();
+    }
+
+    @Override
+    public PostDraftVO getWorkingDraft(Long memberId, Long somId) {
+        try {
+            HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+            Map<String, String> working = hash.entries(KEY_PREFIX + member(memberId, somId));
+            return working.isEmpty() ? null : toDraft(working, memberId, somId);
+        } catch (Exception e) {
+            log.warn("작업 중인 임시저장 조회 실패: memberId={}", memberId, e);
+            return null;
+        }
+    }
+
+    @Override
+    public PostDraftVO getDraft(Long id) {
+        PostDraftVO draft = postDAO.findDraftById(id);
+        if (draft == null) {
+            return null;
+        }
+        // 같은 글을 자동 저장 중이면 더 최신인 작업 중 내용으로
+        PostDraftVO working = getWorkingDraft(draft.getMemberId(), draft.getSomId());
+        if (working != null && id.equals(working.getId())) {
+            draft.setPostDraftTitle(working.getPostDraftTitle());
+            draft.setPostDraftContent(working.getPostDraftContent());
+            draft.setPostDraftCreateAt(working.getPostDraftCreateAt());
+        }
+        return draft;
+    }
+
+    @Override
+    public void deleteDraft(Long id) {
+        PostDraftVO draft = postDAO.findDraftById(id);
+        postDAO.deleteDraftById(id);
+        if (draft == null) {
+            return;
+        }
+        String member = member(draft.getMemberId(), draft.getSomId());
+        try {
+            redisTemplate.execute(DISCARD_SCRIPT, List.of(KEY_PREFIX + member, DIRTY_KEY), member, String.valueOf(id));
+        } catch (Exception e) {
+            log.warn("작업 중인 임시저장 삭제 실패: draftId={}", id, e);
+        }
+    }
+
+    @Override
+    public void consume(Long memberId, Long somId, Long draftId) {
+        String member = member(memberId, somId);
+        Map<String, String> working = new HashMap<>();
+        try {
+            List<Object> fields = redisTemplate.execute(CONSUME_SCRIPT, List.of(KEY_PREFIX + member, DIRTY_KEY), member);
+            for (int i = 0; fields != null && i + 1 < fields.size(); i += 2) {
+                working.put(String.valueOf(fields.get(i)), String.valueOf(fields.get(i + 1)));
+            }
+        } catch (Exception e) {
+            log.warn("작업 중인 임시저장 소비 실패: memberId={}", memberId, e);
+        }
+
+        if (draftId != null) {
+            postDAO.deleteDraftById(draftId);
+        }
+        Long workingDraftId = parseId(working.get(DRAFT_ID));
+        if (workingDraftId != null && !workingDraftId.equals(draftId)) {
+            postDAO.deleteDraftById(workingDraftId);
+        }
+
+        // 게시글 등록이 롤백되면 작업 중인 임시저장을 되돌린다
+        if (!working.isEmpty()) {
+            TransactionCallbacks.afterRollback(() -> restore(member, working));
+        }
+    }
+
+    @Override
+    public void flush() {
+        long threshold = System.currentTimeMillis() - debounceMillis;
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(DIRTY_KEY, 0, threshold, 0, FLUSH_BATCH_SIZE);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+        for (String member : members) {
+            try {
+                Double updatedAt = redisTemplate.opsForZSet().score(DIRTY_KEY, member);
+                if (updatedAt != null) {
+                    //  다른 서버 / 저장 요청이 반영 중이면 다음 주기에
+                    persistWorkingDraftLocked(member, updatedAt.longValue(), 0);
+                }
+            } catch (Exception e) {
+                log.warn("임시저장 반영 실패 (다음 주기에 재시도): {}", member, e);
+            }
+        }
+        log.debug("임시저장 반영 완료: {}건", members.size());
+    }
+
+    //  Redis 에 덮어쓰고 dirty 에 마지막 입력 시각 기록 - 입력 시각
+    private long write(PostDraftVO postDraftVO) {
+        String member = member(postDraftVO.getMemberId(), postDraftVO.getSomId());
+        String key = KEY_PREFIX + member;
+        long updatedAt = System.currentTimeMillis();
+
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TITLE, postDraftVO.getPostDraftTitle() == null ? "" : postDraftVO.getPostDraftTitle());
+        fields.put(CONTENT, postDraftVO.getPostDraftContent() == null ? "" : postDraftVO.getPostDraftContent());
+        fields.put(UPDATED_AT, String.valueOf(updatedAt));
+        //  이미 DB에 있는 임시저장을 이어 쓰는 경우
+        if (postDraftVO.getId() != null) {
+            fields.put(DRAFT_ID, String.valueOf(postDraftVO.getId()));
+        }
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+        redisTemplate.opsForZSet().add(DIRTY_KEY, member, updatedAt);
+        return updatedAt;
+    }
+
+    //  회원 / 솜별 락을 잡고 반영 - 임시저장 ID (락을 못 잡았거나 그사이 소비됐으면 null)
+    private Long persistWorkingDraftLocked(String member, long updatedAt, long waitMillis) {
+        String lockKey = PERSIST_LOCK_PREFIX + member;
+        long deadline = System.currentTimeMillis() + waitMillis;
+        String token = redisLock.tryLock(lockKey, PERSIST_LOCK_TTL);
+        while (token == null && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            token = redisLock.tryLock(lockKey, PERSIST_LOCK_TTL);
+        }
+        if (token == null) {
+            return null;
+        }
+        try {
+            return persistWorkingDraft(member, updatedAt);
+        } finally {
+            redisLock.unlock(lockKey, token);
+        }
+    }
+
+    //  작업 중인 임시저장을 DB에 반영 - 임시저장 ID (그사이 소비됐으면 null)
+    private Long persistWorkingDraft(String member, long updatedAt) {
+        String key = KEY_PREFIX + member;
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        Map<String, String> working = hash.entries(key);
+        if (working.isEmpty()) {
+            redisTemplate.opsForZSet().remove(DIRTY_KEY, member);
+            return null;
+        }
+
+        String[] parts = member.split(":");
+        PostDraftVO draft = toDraft(working, Long.valueOf(parts[0]), "0".equals(parts[1]) ? null : Long.valueOf(parts[1]));
+        boolean inserted = persist(draft);
+
+        Long attached = redisTemplate.execute(ATTACH_SCRIPT, List.of(key), String.valueOf(draft.getId()));
+        if (attached == null || attached == 0) {
+            // 반영하는 사이 게시글 등록 / 삭제로 소비됐으면 방금 만든 임시저장도 지운다
+            if (inserted) {
+                postDAO.deleteDraftById(draft.getId());
+            }
+            return null;
+        }
+        redisTemplate.execute(CLEAN_SCRIPT, List.of(DIRTY_KEY), member, String.valueOf(updatedAt));
+        return draft.getId();
+    }
+
+    //  DB 임시저장 덮어쓰기, 없으면 새로 등록 - 새로 등록했으면 true
+    private boolean persist(PostDraftVO draft) {
+        if (draft.getId() != null && postDAO.updateDraft(draft) > 0) {
+            return false;
+        }
+        postDAO.insertDraft(draft);
+        return true;
+    }
+
+    private void restore(String member, Map<String, String> working) {
+        try {
+            String key = KEY_PREFIX + member;
+            redisTemplate.opsForHash().putAll(key, working);
+            redisTemplate.expire(key, Duration.ofSeconds(ttlSeconds));
+            long updatedAt = working.containsKey(UPDATED_AT) ? Long.parseLong(working.get(UPDATED_AT)) : System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(DIRTY_KEY, member, updatedAt);
+        } catch (Exception e) {
+            log.warn("작업 중인 임시저장 복구 실패: {}", member, e);
+        }
+    }
+
+    private PostDraftVO toDraft(Map<String, String> working, Long memberId, Long somId) {
+        PostDraftVO draft = new PostDraftVO();
+        draft.setId(parseId(working.get(DRAFT_ID)));
+        draft.setPostDraftTitle(working.get(TITLE));
+        draft.setPostDraftContent(working.get(CONTENT));
+        if (working.containsKey(UPDATED_AT)) {
+            draft.setPostDraftCreateAt(new Date(Long.parseLong(working.get(UPDATED_AT))));
+        }
+        draft.setMemberId(memberId);
+        draft.setSomId(somId);
+        return draft;
+    }
+
+    private Long parseId(String value) {
+        return value == null || value.isEmpty() ? null : Long.valueOf(value);
+    }
+
+    //  회원ID:솜ID (솜이 없으면 0)
+    private String member(Long memberId, Long somId) {
+        return memberId + ":" + (somId == null ? 0 : somId);
+    }
+}
@@ -24,4 +24,10 @@ public interface PostImageService {
     //  6) postId 포함 이미지 INSERT (수정 시 재등록) */
     void insertImageWithPostId(PostImageVO vo);
 
+    //  7) 여러 이미지 postId 한 번에 연결 */
+    void updatePostIds(List<Long> imageIds, Long postId);
+
+    //  8) 게시글 이미지를 목록과 같게 맞추기 (바뀐 이미지만 삭제 / 추가) */
+    void syncImages(Long postId, List<PostImageVO> images);
+
 }
@@ -6,7 +6,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
@@ -51,4 +58,58 @@ public class PostImageServiceImpl implements PostImageService {
         postImageDAO.insertImageWithPostId(vo);
     }
 
+    //  7) 여러 이미지 postId 한 번에 연결 */
+    @Override
+    public void updatePostIds(List<Long> imageIds, Long postId) {
+        if (imageIds == null || imageIds.isEmpty()) {
+            return;
+        }
+        postImageDAO.updatePostIdByIds(imageIds, postId);
+    }
+
+    //  8) 게시글 이미지 동기화 */
+    //  대표 이미지는 ID 가 가장 작은 이미지이므로 최종 ID 순서가 목록 순서와 같아야 한다
+    //  목록 앞쪽부터 기존 이미지를 ID 오름차순으로 재사용할 수 있는 데까지 유지하고, 그 뒤는 새로 INSERT 한다
+    @Override
+    public void syncImages(Long postId, List<PostImageVO> images) {
+        Map<String, Deque<PostImageVO>> existing = new HashMap<>();
+        for (PostImageVO image : postImageDAO.selectImagesByPostId(postId)) {
+            existing.computeIfAbsent(imageUrl(image), (key) -> new ArrayDeque<>()).add(image);
+        }
+
+        Set<Long> keptIds = new HashSet<>();
+        List<PostImageVO> inserts = new ArrayList<>();
+        long lastKeptId = Long.MIN_VALUE;
+        boolean reusable = true;
+        for (PostImageVO image : images) {
+            Deque<PostImageVO> candidates = existing.get(imageUrl(image));
+            PostImageVO kept = candidates == null ? null : candidates.peekFirst();
+            if (reusable && kept != null && kept.getId() > lastKeptId) {
+                candidates.pollFirst();
+                keptIds.add(kept.getId());
+                lastKeptId = kept.getId();
+                continue;
+            }
+            reusable = false;
+            image.setPostId(postId);
+            inserts.add(image);
+        }
+
+        List<Long> deleteIds = existing.values().stream()
+                .flatMap(Deque::stream)
+                .map(PostImageVO::getId)
+                .filter((id) -> !keptIds.contains(id))
+                .toList();
+        if (!deleteIds.isEmpty()) {
+            postImageDAO.deleteImagesByIds(deleteIds);
+        }
+        if (!inserts.isEmpty()) {
+            postImageDAO.insertImagesWithPostId(inserts);
+        }
+    }
+
+    private String imageUrl(PostImageVO image) {
+        return image.getPostImagePath() + image.getPostImageName();
+    }
+
 }
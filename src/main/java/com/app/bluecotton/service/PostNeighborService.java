@@ -0,0 +1,19 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.post.PostNeighborsDTO;
+
+import java.util.List;
+
+public interface PostNeighborService {
+    //  이전글 / 다음글 (ID 순)
+    public PostNeighborsDTO getNeighbors(Long postId);
+
+    //  게시글 등록 / 제목 수정 반영 (커밋 후)
+    public void addPost(Long postId, String postTitle);
+
+    //  게시글 삭제 반영 (커밋 후)
+    public void removePosts(List<Long> postIds);
+
+    //  DB 기준으로 다시 구성
+    public void rebuild();
+}
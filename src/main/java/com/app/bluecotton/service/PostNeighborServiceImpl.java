@@ -0,0 +1,192 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.post.PostNeighborDTO;
+import com.app.bluecotton.domain.dto.post.PostNeighborsDTO;
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.util.RedisLock;
+import com.app.bluecotton.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+//  이전글 / 다음글
+//  공개 게시글 ID 를 ZSET(점수 = ID) 에, 제목을 해시에 두고 Lua 한 번으로 앞뒤 글을 찾는다
+//  등록 / 수정 / 삭제는 커밋 후 반영하고, 구성 전이거나 Redis 장애면 DB 로 조회한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostNeighborServiceImpl implements PostNeighborService {
+
+    private static final String IDS_KEY = "post:neighbor:ids";
+    private static final String TITLES_KEY = "post:neighbor:titles";
+    private static final String REBUILD_SUFFIX = ":rebuild";
+    //  여러 서버가 동시에 구성하면 구성 중인 키를 서로 지우므로 한 곳에서만
+    private static final String REBUILD_LOCK_KEY = "post:neighbor:rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    //  게시글이 하나도 없어도 ZSET 이 남아 있도록 넣어 두는 값 (점수 -1, 조회 범위 밖)
+    private static final String SENTINEL = "-";
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    //  KEYS[1] ID ZSET, KEYS[2] 제목 해시 / ARGV[1] 게시글 ID
+    //  ZSET 이 아직 없으면 빈 결과, 있으면 {1, 이전ID, 이전제목, 다음ID, 다음제목} (없는 쪽은 빈 문자열)
+    private static final RedisScript<List> NEIGHBOR_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end "
+                    + "local prev = redis.call('ZREVRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '(0', 'LIMIT', 0, 1)[1] "
+                    + "local nxt = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '+inf', 'LIMIT', 0, 1)[1] "
+                    + "local prevTitle = prev and redis.call('HGET', KEYS[2], prev) or '' "
+                    + "local nextTitle = nxt and redis.call('HGET', KEYS[2], nxt) or '' "
+                    + "return {'1', prev or '', prevTitle, nxt or '', nextTitle}",
+            List.class
+    );
+
+    //  KEYS[1] ID ZSET, KEYS[2] 제목 해시, KEYS[3] 구성 중인 ZSET, KEYS[4] 구성 중인 해시 / ARGV[1] 게시글 ID, ARGV[2] 제목
+    //  구성 중이면 새 키에도 넣어 교체 때 빠지지 않게 한다, 구성 전이면 건너뛴다 (구성 때 DB 에서 채워짐)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local added = 0 "
+                    + "for i = 1, 3, 2 do "
+                    + "  if redis.call('EXISTS', KEYS[i]) == 1 then "
+                    + "    redis.call('ZADD', KEYS[i], ARGV[1], ARGV[1]) "
+                    + "    redis.call('HSET', KEYS[i + 1], ARGV[1], ARGV[2]) "
+                    + "    added = 1 "
+                    + "  end "
+                    + "end "
+                    + "return added",
+            Long.class
+    );
+
+    //  KEYS[1] ID ZSET, KEYS[2] 제목 해시, KEYS[3] 새 ZSET, KEYS[4] 새 해시
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('RENAME', KEYS[3], KEYS[1]) "
+                    + "if redis.call('EXISTS', KEYS[4]) == 1 then redis.call('RENAME', KEYS[4], KEYS[2]) "
+                    + "else redis.call('DEL', KEYS[2]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostDAO postDAO;
+    private final RedisLock redisLock;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PostNeighborsDTO getNeighbors(Long postId) {
+        try {
+            List<String> result = (List<String>) redisTemplate.execute(NEIGHBOR_SCRIPT,
+                    List.of(IDS_KEY, TITLES_KEY), String.valueOf(postId));
+            if (result != null && result.size() == 5) {
+                return new PostNeighborsDTO(toNeighbor(result.get(1), result.get(2)), toNeighbor(result.get(3), result.get(4)));
+            }
+        } catch (Exception e) {
+            log.warn("이전글 / 다음글 Redis 조회 실패, DB 조회: {}", postId, e);
+        }
+        return new PostNeighborsDTO(postDAO.selectPrevPost(postId), postDAO.selectNextPost(postId));
+    }
+
+    @Override
+    public void addPost(Long postId, String postTitle) {
+        String title = postTitle == null ? "" : postTitle;
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                redisTemplate.execute(ADD_SCRIPT, List.of(IDS_KEY, TITLES_KEY, IDS_KEY + REBUILD_SUFFIX, TITLES_KEY + REBUILD_SUFFIX),
+                        String.valueOf(postId), title);
+            } catch (Exception e) {
+                log.warn("이전글 / 다음글 반영 실패: {}", postId, e);
+            }
+        });
+    }
+
+    @Override
+    public void removePosts(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                //  구성 중인 키에서도 지운다
+                List<byte[]> idsKeys = List.of(bytes(IDS_KEY), bytes(IDS_KEY + REBUILD_SUFFIX));
+                List<byte[]> titlesKeys = List.of(bytes(TITLES_KEY), bytes(TITLES_KEY + REBUILD_SUFFIX));
+                redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                    for (Long postId : postIds) {
+                        byte[] member = bytes(String.valueOf(postId));
+                        idsKeys.forEach((key) -> connection.zSetCommands().zRem(key, member));
+                        titlesKeys.forEach((key) -> connection.hashCommands().hDel(key, member));
+                    }
+                    return null;
+                });
+            } catch (Exception e) {
+                log.warn("이전글 / 다음글 삭제 반영 실패: {}건", postIds.size(), e);
+            }
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        String lockToken = redisLock.tryLock(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            rebuildKeys();
+        } finally {
+            redisLock.unlock(REBUILD_LOCK_KEY, lockToken);
+        }
+    }
+
+    private void rebuildKeys() {
+        String idsRebuildKey = IDS_KEY + REBUILD_SUFFIX;
+        String titlesRebuildKey = TITLES_KEY + REBUILD_SUFFIX;
+        redisTemplate.delete(List.of(idsRebuildKey, titlesRebuildKey));
+        redisTemplate.opsForZSet().add(idsRebuildKey, SENTINEL, -1);
+
+        byte[] idsKey = bytes(idsRebuildKey);
+        byte[] titlesKey = bytes(titlesRebuildKey);
+        long total = 0;
+        Long afterId = 0L;
+        while (true) {
+            //  ID 순 키셋 페이지로 나눠 읽는다
+            List<PostNeighborDTO> page = postDAO.findNeighborPage(afterId, REBUILD_PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                for (PostNeighborDTO post : page) {
+                    byte[] member = bytes(String.valueOf(post.getId()));
+                    connection.zSetCommands().zAdd(idsKey, post.getId(), member);
+                    connection.hashCommands().hSet(titlesKey, member, bytes(post.getPostTitle() == null ? "" : post.getPostTitle()));
+                }
+                return null;
+            });
+            total += page.size();
+            afterId = page.get(page.size() - 1).getId();
+            if (page.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+        }
+
+        redisTemplate.execute(SWAP_SCRIPT, List.of(IDS_KEY, TITLES_KEY, idsRebuildKey, titlesRebuildKey));
+        log.debug("이전글 / 다음글 구성 완료: {}건", total);
+    }
+
+    private PostNeighborDTO toNeighbor(String id, String title) {
+        if (id == null || id.isEmpty()) {
+            return null;
+        }
+        PostNeighborDTO neighbor = new PostNeighborDTO();
+        neighbor.setId(Long.valueOf(id));
+        neighbor.setPostTitle(title);
+        return neighbor;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,20 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
+
+import java.util.List;
+
+public interface PostPurgeService {
+    //  게시글 일괄 삭제 (연관 데이터 포함, 한 트랜잭션)
+    public int purgePosts(List<Long> postIds);
+
+    //  댓글 일괄 삭제 (답글 포함, 한 트랜잭션)
+    public int purgeComments(List<Long> commentIds);
+
+    //  대량 삭제를 백그라운드 작업으로 시작 (청크 단위 커밋)
+    public PostPurgeJobDTO startPostPurge(List<Long> postIds);
+    public PostPurgeJobDTO startCommentPurge(List<Long> commentIds);
+
+    //  작업 진행 상황
+    public PostPurgeJobDTO getJob(String jobId);
+}
@@ -0,0 +1,228 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.config.CacheConfig;
+import com.app.bluecotton.domain.dto.post.PostPurgeJobDTO;
+import com.app.bluecotton.exception.PostException;
+import com.app.bluecotton.repository.PostDAO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+//  게시글 / 댓글 일괄 삭제
+//  ID 를 청크로 나눠 청크마다 PL/SQL 블록 한 번으로 연관 데이터까지 지운다
+//  대량 삭제는 백그라운드 작업으로 돌리고 청크마다 커밋해 진행 상황을 조회할 수 있게 한다
+//  진행 상황은 Redis 해시(post:purge:job:{jobId})에 두어 어느 서버에서든 조회할 수 있다
+@Slf4j
+@Service
+public class PostPurgeServiceImpl implements PostPurgeService {
+
+    private static final String TARGET_POST = "POST";
+    private static final String TARGET_COMMENT = "COMMENT";
+    private static final String JOB_KEY_PREFIX = "post:purge:job:";
+    //  진행 중인 작업 기록 보관 시간 (서버가 죽어 끝나지 못한 작업도 결국 지워지도록)
+    private static final Duration RUNNING_JOB_TTL = Duration.ofDays(1);
+    //  끝난 작업 기록 보관 시간
+    private static final Duration FINISHED_JOB_TTL = Duration.ofHours(1);
+
+    private static final String JOB_ID = "jobId";
+    private static final String TARGET_TYPE = "targetType";
+    private static final String STATUS = "status";
+    private static final String TOTAL_COUNT = "totalCount";
+    private static final String PROCESSED_COUNT = "processedCount";
+    private static final String ERROR_MESSAGE = "errorMessage";
+    private static final String STARTED_AT = "startedAt";
+    private static final String FINISHED_AT = "finishedAt";
+
+    private final PostDAO postDAO;
+    private final SearchIndexService searchIndexService;
+    private final PostNeighborService postNeighborService;
+    private final PostRankingService postRankingService;
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor postPurgeExecutor;
+    private final int chunkSize;
+
+    public PostPurgeServiceImpl(
+            PostDAO postDAO,
+            SearchIndexService searchIndexService,
+            PostNeighborService postNeighborService,
+            PostRankingService postRankingService,
+            CacheManager cacheManager,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("postPurgeExecutor") Executor postPurgeExecutor,
+            @Value("${post.purge.chunk-size:200}") int chunkSize
+    ) {
+        this.postDAO = postDAO;
+        this.searchIndexService = searchIndexService;
+        this.postNeighborService = postNeighborService;
+        this.postRankingService = postRankingService;
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postPurgeExecutor = postPurgeExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public int purgePosts(List<Long> postIds) {
+        List<List<Long>> chunks = chunk(postIds);
+        transactionTemplate.executeWithoutResult((status) -> chunks.forEach(this::deletePostChunk));
+        evictPostCount();
+        return chunks.stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public int purgeComments(List<Long> commentIds) {
+        List<List<Long>> chunks = chunk(commentIds);
+        transactionTemplate.executeWithoutResult((status) -> chunks.forEach(postDAO::deleteCommentsCascade));
+        return chunks.stream().mapToInt(List::size).sum();
+    }
+
+    @Override
+    public PostPurgeJobDTO startPostPurge(List<Long> postIds) {
+        return startJob(TARGET_POST, postIds, this::deletePostChunk);
+    }
+
+    @Override
+    public PostPurgeJobDTO startCommentPurge(List<Long> commentIds) {
+        return startJob(TARGET_COMMENT, commentIds, postDAO::deleteCommentsCascade);
+    }
+
+    @Override
+    public PostPurgeJobDTO getJob(String jobId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(JOB_KEY_PREFIX + jobId);
+        if (fields.isEmpty()) {
+            throw new PostException("삭제 작업을 찾을 수 없습니다.");
+        }
+        return toJob(fields);
+    }
+
+    private PostPurgeJobDTO startJob(String targetType, List<Long> ids, Consumer<List<Long>> deleteChunk) {
+        List<List<Long>> chunks = chunk(ids);
+        PostPurgeJobDTO job = new PostPurgeJobDTO();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setTargetType(targetType);
+        job.setStatus("RUNNING");
+        job.setTotalCount(chunks.stream().mapToInt(List::size).sum());
+        job.setStartedAt(new Date());
+
+        String key = JOB_KEY_PREFIX + job.getJobId();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(JOB_ID, job.getJobId());
+        fields.put(TARGET_TYPE, targetType);
+        fields.put(STATUS, job.getStatus());
+        fields.put(TOTAL_COUNT, String.valueOf(job.getTotalCount()));
+        fields.put(PROCESSED_COUNT, "0");
+        fields.put(STARTED_AT, String.valueOf(job.getStartedAt().getTime()));
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, RUNNING_JOB_TTL);
+
+        try {
+            postPurgeExecutor.execute(() -> runJob(job, chunks, deleteChunk));
+        } catch (TaskRejectedException e) {
+            redisTemplate.delete(key);
+            throw new PostException("진행 중인 삭제 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job;
+    }
+
+    private void runJob(PostPurgeJobDTO job, List<List<Long>> chunks, Consumer<List<Long>> deleteChunk) {
+        String key = JOB_KEY_PREFIX + job.getJobId();
+        Map<String, String> result = new HashMap<>();
+        int processedCount = 0;
+        try {
+            for (List<Long> chunk : chunks) {
+                transactionTemplate.executeWithoutResult((status) -> deleteChunk.accept(chunk));
+                processedCount += chunk.size();
+                saveProgress(key, Map.of(PROCESSED_COUNT, String.valueOf(processedCount)));
+            }
+            result.put(STATUS, "DONE");
+        } catch (Exception e) {
+            //  이미 커밋된 청크는 유지, processedCount 이후부터 다시 요청하면 된다
+            log.error("일괄 삭제 실패: jobId={}, processed={}/{}", job.getJobId(), processedCount, job.getTotalCount(), e);
+            result.put(STATUS, "FAILED");
+            result.put(ERROR_MESSAGE, String.valueOf(e.getMessage()));
+        } finally {
+            result.put(PROCESSED_COUNT, String.valueOf(processedCount));
+            result.put(FINISHED_AT, String.valueOf(System.currentTimeMillis()));
+            saveProgress(key, result);
+            redisTemplate.expire(key, FINISHED_JOB_TTL);
+            if (TARGET_POST.equals(job.getTargetType())) {
+                evictPostCount();
+            }
+        }
+    }
+
+    //  진행 상황 기록 실패로 삭제 작업까지 멈추지는 않는다
+    private void saveProgress(String key, Map<String, String> fields) {
+        try {
+            redisTemplate.opsForHash().putAll(key, fields);
+        } catch (Exception e) {
+            log.warn("삭제 작업 진행 상황 기록 실패: {}", key, e);
+        }
+    }
+
+    private PostPurgeJobDTO toJob(Map<Object, Object> fields) {
+        PostPurgeJobDTO job = new PostPurgeJobDTO();
+        job.setJobId((String) fields.get(JOB_ID));
+        job.setTargetType((String) fields.get(TARGET_TYPE));
+        job.setStatus((String) fields.get(STATUS));
+        job.setTotalCount(Integer.parseInt((String) fields.getOrDefault(TOTAL_COUNT, "0")));
+        job.setProcessedCount(Integer.parseInt((String) fields.getOrDefault(PROCESSED_COUNT, "0")));
+        job.setErrorMessage((String) fields.get(ERROR_MESSAGE));
+        job.setStartedAt(toDate(fields.get(STARTED_AT)));
+        job.setFinishedAt(toDate(fields.get(FINISHED_AT)));
+        return job;
+    }
+
+    private Date toDate(Object millis) {
+        return millis == null ? null : new Date(Long.parseLong((String) millis));
+    }
+
+    private void deletePostChunk(List<Long> postIds) {
+        postDAO.deletePostsCascade(postIds);
+        postIds.forEach(searchIndexService::removePost);
+        postIds.forEach(postRankingService::removePost);
+        postNeighborService.removePosts(postIds);
+    }
+
+    private void evictPostCount() {
+        Cache cache = cacheManager.getCache(CacheConfig.POST_COUNT_CACHE);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    //  중복 제거 후 청크로 나눔
+    private List<List<Long>> chunk(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new PostException("삭제할 대상이 없습니다.");
+        }
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinctIds.size(); from += chunkSize) {
+            chunks.add(distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,6 @@
+package com.app.bluecotton.service;
+
+public interface PostQuotaService {
+    //  오늘 해당 솜에 게시글을 쓸 수 있으면 자리를 잡고 true (게시글 등록이 롤백되면 자리 반납)
+    public boolean tryAcquireDaily(Long memberId, Long somId);
+}
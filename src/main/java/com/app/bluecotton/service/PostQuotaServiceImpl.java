@@ -0,0 +1,106 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+//  하루 한 솜 한 게시글
+//  회원 / 솜 / 날짜 키를 SETNX 로 먼저 잡은 요청만 통과시켜서 동시에 들어온 등록 중 하나만 성공한다 (키는 자정에 만료)
+//  Redis 키가 유실됐거나 게시글이 삭제된 경우를 위해 DB 확인은 그대로 둔다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostQuotaServiceImpl implements PostQuotaService {
+
+    private static final String KEY_PREFIX = "post:quota:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    //  KEYS[1] 자리 / ARGV[1] 기존 값, ARGV[2] 새 값 - 그사이 다른 요청이 가져가지 않았을 때만 교체
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 자리 / ARGV[1] 잡을 때 넣은 값 - 내가 잡은 자리만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+                    + "return redis.call('DEL', KEYS[1])",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostDAO postDAO;
+
+    //  자정 기준 시간대 (DB SYSDATE 와 같아야 한다)
+    @Value("${post.quota.zone:Asia/Seoul}")
+    private String zone;
+
+    //  이 시간이 지난 자리는 등록이 끝났다고 보고 DB 로 다시 확인 (삭제된 게시글 / 실패한 등록)
+    @Value("${post.quota.settle-ms:60000}")
+    private long settleMillis;
+
+    @Override
+    public boolean tryAcquireDaily(Long memberId, Long somId) {
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of(zone));
+        String key = KEY_PREFIX + now.format(DAY_FORMAT) + ":" + memberId + ":" + somId;
+        String token = String.valueOf(System.currentTimeMillis());
+
+        try {
+            Duration untilMidnight = Duration.between(now, now.toLocalDate().plusDays(1).atStartOfDay(now.getZone()));
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, untilMidnight);
+            if (!Boolean.TRUE.equals(acquired)) {
+                String holder = redisTemplate.opsForValue().get(key);
+                // 방금 잡힌 자리는 등록 중인 요청이므로 거절
+                if (holder == null || System.currentTimeMillis() - Long.parseLong(holder) < settleMillis) {
+                    return false;
+                }
+                // 오래된 자리인데 오늘 게시글이 없으면 (삭제 / 롤백 후 반납 실패) 다시 잡는다
+                if (existsTodayPost(memberId, somId)) {
+                    return false;
+                }
+                Long replaced = redisTemplate.execute(REPLACE_SCRIPT, List.of(key), holder, token);
+                if (replaced == null || replaced == 0) {
+                    return false;
+                }
+            } else if (existsTodayPost(memberId, somId)) {
+                // Redis 키가 유실돼서 새로 잡힌 경우
+                return false;
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 DB 확인만
+            log.warn("게시글 작성 제한 Redis 확인 실패, DB 확인: memberId={}, somId={}", memberId, somId, e);
+            return !existsTodayPost(memberId, somId);
+        }
+
+        releaseOnRollback(key, token);
+        return true;
+    }
+
+    private boolean existsTodayPost(Long memberId, Long somId) {
+        return postDAO.existsTodayPostInSom(memberId, somId) > 0;
+    }
+
+    private void releaseOnRollback(String key, String token) {
+        TransactionCallbacks.afterRollback(() -> {
+            try {
+                redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+            } catch (Exception e) {
+                log.warn("게시글 작성 제한 반납 실패: {}", key, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package com.app.bluecotton.service;
+
+import java.util.List;
+
+public interface PostRankingService {
+    //  전체 / 카테고리별 조회수, 좋아요, 댓글 순위를 DB 에서 다시 구성
+    public void rebuild();
+
+    //  시간대별 점수를 감쇠 가중치로 합산해 트렌딩 순위 갱신
+    public void refreshTrending();
+
+    //  랭킹으로 정렬하는 orderType 인지 (view, popular, comment, trending)
+    public boolean isRankedOrder(String orderType);
+
+    //  랭킹 순서대로 게시글 ID (랭킹으로 처리할 수 없는 범위면 null)
+    public List<Long> findRankedIds(String orderType, String somCategory, int offset, int count);
+
+    //  새 게시글 등록 (커밋 이후 반영)
+    public void addPost(Long postId);
+
+    //  게시글 삭제 (커밋 이후 반영)
+    public void removePost(Long postId);
+
+    //  조회수 갱신 (counted 가 true 면 트렌딩 점수 가산)
+    public void recordView(Long postId, long readCount, boolean counted);
+
+    //  좋아요 수 갱신 (liked 에 따라 트렌딩 점수 가감)
+    public void recordLike(Long postId, long likeCount, boolean liked);
+
+    //  댓글 수 증감 (커밋 이후 반영)
+    public void recordComment(Long postId, int delta);
+}
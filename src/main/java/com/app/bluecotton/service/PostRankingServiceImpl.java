@@ -0,0 +1,401 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.post.PostRankingDTO;
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.util.RedisLock;
+import com.app.bluecotton.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+//  게시글 랭킹 (조회수 / 좋아요 / 댓글 / 트렌딩)
+//  전체와 카테고리별로 상위 topK 게시글만 Redis Sorted Set 에 두고, 조회 / 좋아요 / 댓글 이벤트마다 점수를 갱신한다
+//  랭킹 피드의 앞쪽 페이지는 ZREVRANGE 로 ID 만 꺼낸 뒤 DB 에서는 해당 ID 만 조회한다
+//  topK 밖으로 밀려난 게시글의 정확한 점수는 알 수 없으므로 주기적으로 DB 에서 다시 구성해 맞춘다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingServiceImpl implements PostRankingService {
+
+    private static final String KEY_PREFIX = "post:rank:";
+    private static final String TREND_BUCKET_PREFIX = "post:rank:trend:";
+    private static final String CATEGORIES_KEY = "post:rank:categories";
+    private static final String CATEGORY_HASH_KEY = "post:rank:category";
+    private static final String ALL_SCOPE = "ALL";
+    //  여러 서버가 동시에 구성하면 같은 임시 키(:tmp)를 서로 지우므로 구성 / 트렌딩 갱신은 한 곳에서만
+    private static final String REBUILD_LOCK_KEY = "post:rank:rebuild-lock";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+
+    private static final String VIEW = "view";
+    private static final String POPULAR = "popular";
+    private static final String COMMENT = "comment";
+    private static final String TRENDING = "trending";
+    private static final List<String> COUNT_ORDERS = List.of(VIEW, POPULAR, COMMENT);
+
+    //  트렌딩 점수 가중치
+    private static final double VIEW_WEIGHT = 1;
+    private static final double COMMENT_WEIGHT = 3;
+    private static final double LIKE_WEIGHT = 5;
+
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    //  KEYS[1] 랭킹 / ARGV[1] 게시글, ARGV[2] 값, ARGV[3] topK, ARGV[4] set|incr
+    //  랭킹이 아직 구성되지 않았으면 무시, topK 가 차 있으면 밖에 있던 게시글은 최소 점수를 넘을 때만 (incr 은 다음 재구성 때) 들어온다
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "local value = tonumber(ARGV[2]) "
+                    + "local k = tonumber(ARGV[3]) "
+                    + "local present = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+                    + "local full = redis.call('ZCARD', KEYS[1]) >= k "
+                    + "if ARGV[4] == 'incr' then "
+                    + "  if present == false and full then return 0 end "
+                    + "  redis.call('ZINCRBY', KEYS[1], value, ARGV[1]) "
+                    + "else "
+                    + "  if present == false and full then "
+                    + "    local lowest = redis.call('ZRANGE', KEYS[1], 0, 0, 'WITHSCORES') "
+                    + "    if value <= tonumber(lowest[2]) then return 0 end "
+                    + "  end "
+                    + "  redis.call('ZADD', KEYS[1], value, ARGV[1]) "
+                    + "end "
+                    + "local size = redis.call('ZCARD', KEYS[1]) "
+                    + "if size > k then redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - k - 1) end "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostDAO postDAO;
+    private final RedisLock redisLock;
+
+    @Value("${post.rank.top-k:1000}")
+    private int topK;
+
+    //  트렌딩 집계 구간 / 반감기 (시간)
+    @Value("${post.rank.trending-window-hours:24}")
+    private int trendingWindowHours;
+
+    @Value("${post.rank.trending-half-life-hours:6}")
+    private double trendingHalfLifeHours;
+
+    @Override
+    public void rebuild() {
+        String lockToken = redisLock.tryLock(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            rebuildKeys();
+            refreshTrendingKeys();
+        } finally {
+            redisLock.unlock(REBUILD_LOCK_KEY, lockToken);
+        }
+    }
+
+    @Override
+    public void refreshTrending() {
+        String lockToken = redisLock.tryLock(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            refreshTrendingKeys();
+        } finally {
+            redisLock.unlock(REBUILD_LOCK_KEY, lockToken);
+        }
+    }
+
+    private void rebuildKeys() {
+        List<PostRankingDTO> rows = postDAO.findPostRankings(topK);
+
+        Map<String, List<PostRankingDTO>> scopes = new HashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        for (PostRankingDTO row : rows) {
+            scopes.computeIfAbsent(ALL_SCOPE, (key) -> new ArrayList<>()).add(row);
+            if (row.getSomCategory() != null) {
+                scopes.computeIfAbsent(row.getSomCategory(), (key) -> new ArrayList<>()).add(row);
+                categories.put(String.valueOf(row.getId()), row.getSomCategory());
+            }
+        }
+
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        for (Map.Entry<String, List<PostRankingDTO>> scope : scopes.entrySet()) {
+            for (String orderType : COUNT_ORDERS) {
+                Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+                scope.getValue().stream()
+                        .sorted(Comparator.comparingLong((PostRankingDTO row) -> score(row, orderType))
+                                .thenComparingLong(PostRankingDTO::getId)
+                                .reversed())
+                        .limit(topK)
+                        .forEach((row) -> tuples.add(new DefaultTypedTuple<>(member(row.getId()), (double) score(row, orderType))));
+
+                // 임시 키에 채운 뒤 RENAME 으로 교체해서 조회 중에 빈 랭킹이 보이지 않게 한다
+                String key = rankKey(orderType, scope.getKey());
+                String tempKey = key + ":tmp";
+                redisTemplate.delete(tempKey);
+                zSet.add(tempKey, tuples);
+                redisTemplate.rename(tempKey, key);
+            }
+        }
+
+        // 게시글이 모두 사라진 카테고리의 랭킹 정리
+        Set<String> previous = redisTemplate.opsForSet().members(CATEGORIES_KEY);
+        if (previous != null) {
+            for (String category : previous) {
+                if (!scopes.containsKey(category)) {
+                    COUNT_ORDERS.forEach((orderType) -> redisTemplate.delete(rankKey(orderType, category)));
+                    redisTemplate.delete(rankKey(TRENDING, category));
+                }
+            }
+        }
+        redisTemplate.delete(CATEGORIES_KEY);
+        Set<String> currentCategories = new HashSet<>(scopes.keySet());
+        currentCategories.remove(ALL_SCOPE);
+        if (!currentCategories.isEmpty()) {
+            redisTemplate.opsForSet().add(CATEGORIES_KEY, currentCategories.toArray(new String[0]));
+        }
+        if (!categories.isEmpty()) {
+            redisTemplate.opsForHash().putAll(CATEGORY_HASH_KEY, categories);
+        }
+
+        log.info("게시글 랭킹 구성 완료: 대상 {}건, 카테고리 {}개", rows.size(), currentCategories.size());
+    }
+
+    private void refreshTrendingKeys() {
+        long currentHour = System.currentTimeMillis() / HOUR_MILLIS;
+        List<String> scopes = new ArrayList<>();
+        scopes.add(ALL_SCOPE);
+        Set<String> categories = redisTemplate.opsForSet().members(CATEGORIES_KEY);
+        if (categories != null) {
+            scopes.addAll(categories);
+        }
+
+        // 시간대 버킷 점수를 경과 시간에 따라 반감기로 줄여서 합산 (지난 점수를 직접 깎지 않는다)
+        double[] weights = new double[trendingWindowHours];
+        for (int age = 0; age < trendingWindowHours; age++) {
+            weights[age] = Math.pow(0.5, age / trendingHalfLifeHours);
+        }
+
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+        for (String scope : scopes) {
+            List<String> buckets = new ArrayList<>();
+            for (int age = 0; age < trendingWindowHours; age++) {
+                buckets.add(trendBucketKey(scope, currentHour - age));
+            }
+
+            String key = rankKey(TRENDING, scope);
+            String tempKey = key + ":tmp";
+            Long size = zSet.unionAndStore(buckets.get(0), buckets.subList(1, buckets.size()), tempKey,
+                    Aggregate.SUM, Weights.of(weights));
+            if (size == null || size == 0) {
+                redisTemplate.delete(key);
+                continue;
+            }
+            // 좋아요 취소 등으로 점수가 0 이하인 게시글 제외 후 상위 topK 만 남김
+            zSet.removeRangeByScore(tempKey, Double.NEGATIVE_INFINITY, 0);
+            zSet.removeRange(tempKey, 0, -topK - 1);
+            if (zSet.zCard(tempKey) == 0) {
+                redisTemplate.delete(key);
+                continue;
+            }
+            redisTemplate.rename(tempKey, key);
+        }
+    }
+
+    @Override
+    public boolean isRankedOrder(String orderType) {
+        return TRENDING.equals(orderType) || COUNT_ORDERS.contains(orderType);
+    }
+
+    @Override
+    public List<Long> findRankedIds(String orderType, String somCategory, int offset, int count) {
+        if (!isRankedOrder(orderType)) {
+            return null;
+        }
+        try {
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            String key = rankKey(orderType, scope(somCategory));
+            Long size = zSet.zCard(key);
+            if (size == null || size == 0) {
+                return null;
+            }
+            // topK 가 꽉 찬 랭킹에서 범위를 벗어나면 DB 정렬로 (트렌딩은 랭킹에 든 게시글까지만)
+            if (offset + count > size && size >= topK && !TRENDING.equals(orderType)) {
+                return null;
+            }
+            Set<String> members = zSet.reverseRange(key, offset, offset + count - 1);
+            if (members == null) {
+                return List.of();
+            }
+            return members.stream().map(Long::parseLong).toList();
+        } catch (Exception e) {
+            log.warn("게시글 랭킹 조회 실패, DB 정렬로 대체: orderType={}", orderType, e);
+            return null;
+        }
+    }
+
+    @Override
+    public void addPost(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (String scope : scopesOf(postId)) {
+                for (String orderType : COUNT_ORDERS) {
+                    update(rankKey(orderType, scope), postId, 0, "incr");
+                }
+            }
+        });
+    }
+
+    @Override
+    public void removePost(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                List<String> scopes = scopesOf(postId);
+                long currentHour = System.currentTimeMillis() / HOUR_MILLIS;
+                byte[] member = member(postId).getBytes(StandardCharsets.UTF_8);
+                redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                    for (String scope : scopes) {
+                        for (String orderType : COUNT_ORDERS) {
+                            connection.zSetCommands().zRem(rankKey(orderType, scope).getBytes(StandardCharsets.UTF_8), member);
+                        }
+                        connection.zSetCommands().zRem(rankKey(TRENDING, scope).getBytes(StandardCharsets.UTF_8), member);
+                        for (int age = 0; age < trendingWindowHours; age++) {
+                            connection.zSetCommands().zRem(trendBucketKey(scope, currentHour - age).getBytes(StandardCharsets.UTF_8), member);
+                        }
+                    }
+                    return null;
+                });
+                redisTemplate.opsForHash().delete(CATEGORY_HASH_KEY, String.valueOf(postId));
+            } catch (Exception e) {
+                log.warn("게시글 랭킹 제거 실패: postId={}", postId, e);
+            }
+        });
+    }
+
+    @Override
+    public void recordView(Long postId, long readCount, boolean counted) {
+        List<String> scopes = scopesOf(postId);
+        scopes.forEach((scope) -> update(rankKey(VIEW, scope), postId, readCount, "set"));
+        if (counted) {
+            addTrendScore(scopes, postId, VIEW_WEIGHT);
+        }
+    }
+
+    @Override
+    public void recordLike(Long postId, long likeCount, boolean liked) {
+        List<String> scopes = scopesOf(postId);
+        scopes.forEach((scope) -> update(rankKey(POPULAR, scope), postId, likeCount, "set"));
+        addTrendScore(scopes, postId, liked ? LIKE_WEIGHT : -LIKE_WEIGHT);
+    }
+
+    @Override
+    public void recordComment(Long postId, int delta) {
+        TransactionCallbacks.afterCommit(() -> {
+            List<String> scopes = scopesOf(postId);
+            scopes.forEach((scope) -> update(rankKey(COMMENT, scope), postId, delta, "incr"));
+            addTrendScore(scopes, postId, COMMENT_WEIGHT * delta);
+        });
+    }
+
+    private void update(String key, Long postId, double value, String mode) {
+        try {
+            redisTemplate.execute(UPDATE_SCRIPT, List.of(key),
+                    member(postId), String.valueOf(value), String.valueOf(topK), mode);
+        } catch (Exception e) {
+            log.warn("게시글 랭킹 갱신 실패: key={}, postId={}", key, postId, e);
+        }
+    }
+
+    //  현재 시간대 버킷에 점수 가산 (버킷은 집계 구간이 지나면 만료)
+    private void addTrendScore(List<String> scopes, Long postId, double score) {
+        try {
+            long currentHour = System.currentTimeMillis() / HOUR_MILLIS;
+            long ttlSeconds = TimeUnit.HOURS.toSeconds(trendingWindowHours + 1);
+            byte[] member = member(postId).getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                for (String scope : scopes) {
+                    byte[] bucket = trendBucketKey(scope, currentHour).getBytes(StandardCharsets.UTF_8);
+                    connection.zSetCommands().zIncrBy(bucket, score, member);
+                    connection.keyCommands().expire(bucket, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("트렌딩 점수 가산 실패: postId={}", postId, e);
+        }
+    }
+
+    //  전체 + 게시글의 카테고리
+    private List<String> scopesOf(Long postId) {
+        List<String> scopes = new ArrayList<>();
+        scopes.add(ALL_SCOPE);
+        String category = categoryOf(postId);
+        if (category != null) {
+            scopes.add(category);
+        }
+        return scopes;
+    }
+
+    private String categoryOf(Long postId) {
+        String field = String.valueOf(postId);
+        try {
+            Object cached = redisTemplate.opsForHash().get(CATEGORY_HASH_KEY, field);
+            if (cached != null) {
+                return cached.toString();
+            }
+            String category = postDAO.findPostSomCategory(postId);
+            if (category != null) {
+                redisTemplate.opsForHash().put(CATEGORY_HASH_KEY, field, category);
+            }
+            return category;
+        } catch (Exception e) {
+            log.warn("게시글 카테고리 조회 실패: postId={}", postId, e);
+            return null;
+        }
+    }
+
+    private long score(PostRankingDTO row, String orderType) {
+        Long value = switch (orderType) {
+            case VIEW -> row.getPostReadCount();
+            case POPULAR -> row.getPostLikeCount();
+            default -> row.getPostCommentCount();
+        };
+        return value == null ? 0L : value;
+    }
+
+    private String scope(String somCategory) {
+        return somCategory == null || somCategory.isBlank() ? ALL_SCOPE : somCategory.toUpperCase();
+    }
+
+    private String rankKey(String orderType, String scope) {
+        return KEY_PREFIX + orderType + ":" + scope;
+    }
+
+    private String trendBucketKey(String scope, long hour) {
+        return TREND_BUCKET_PREFIX + scope + ":" + hour;
+    }
+
+    //  점수가 같으면 멤버 역순으로 정렬되므로 ID 를 0 으로 채워 숫자 순서와 맞춘다 (동률은 ID DESC)
+    private String member(Long postId) {
+        return String.format("%019d", postId);
+    }
+}
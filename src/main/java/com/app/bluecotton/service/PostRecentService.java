@@ -0,0 +1,19 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.MyPagePostRecentDTO;
+
+import java.util.List;
+
+public interface PostRecentService {
+    //  최근 본 글 추가 (회원별 최신순, 같은 글은 시각만 갱신)
+    public void register(Long memberId, Long postId);
+
+    //  최근 본 글 목록 (최신순)
+    public List<MyPagePostRecentDTO> getRecentPosts(Long memberId);
+
+    //  최근 본 글 삭제
+    public void remove(Long memberId, Long postId);
+
+    //  누적된 최근 본 글을 DB에 일괄 반영
+    public void flush();
+}
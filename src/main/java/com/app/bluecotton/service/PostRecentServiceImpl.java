@@ -0,0 +1,204 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.MyPagePostRecentDTO;
+import com.app.bluecotton.domain.vo.post.PostRecentVO;
+import com.app.bluecotton.repository.MyPagePostDAO;
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.util.RedisHashDrainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+//  최근 본 글
+//  회원별로 Redis Sorted Set (게시글 ID, 조회 시각) 에 최신 maxSize 개만 남기고
+//  변경된 (회원, 게시글, 시각) 만 해시에 모아 두었다가 스케줄러가 TBL_POST_RECENT 에 일괄 반영한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRecentServiceImpl implements PostRecentService {
+
+    private static final String KEY_PREFIX = "post:recent:";
+    private static final String PENDING_KEY = "post:recent:pending";
+    private static final String FLUSHING_KEY = "post:recent:flushing";
+    //  최근 본 글이 없어도 DB 에서 불러온 상태임을 표시 (점수 0 이라 항상 가장 오래된 순위)
+    private static final String SENTINEL = "-";
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    //  KEYS[1] 회원 최근 본 글, KEYS[2] 변경 해시 / ARGV[1] 게시글, ARGV[2] 조회 시각, ARGV[3] 최대 개수, ARGV[4] TTL(초), ARGV[5] 변경 필드
+    //  아직 DB 에서 불러오지 않았으면 -1
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "local size = redis.call('ZCARD', KEYS[1]) "
+                    + "local max = tonumber(ARGV[3]) "
+                    + "if size > max + 1 then redis.call('ZREMRANGEBYRANK', KEYS[1], 1, size - max - 1) end "
+                    + "redis.call('HSET', KEYS[2], ARGV[5], ARGV[2]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[4]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 회원 최근 본 글 / ARGV[1] TTL(초), ARGV[2..] 조회 시각, 게시글 반복
+    //  그사이 다른 요청이 먼저 불러왔으면 덮어쓰지 않는다
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('ZADD', KEYS[1], 0, '" + SENTINEL + "') "
+                    + "for i = 2, #ARGV, 2 do redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostDAO postDAO;
+    private final MyPagePostDAO myPagePostDAO;
+    private final RedisHashDrainer redisHashDrainer;
+
+    //  회원별로 남겨 둘 최근 본 글 수 (IN 절 1000개 제한 안쪽)
+    @Value("${post.recent.max-size:50}")
+    private int maxSize;
+
+    @Value("${post.recent.ttl-seconds:1209600}")
+    private long ttlSeconds;
+
+    @Override
+    public void register(Long memberId, Long postId) {
+        String viewedAt = String.valueOf(System.currentTimeMillis());
+        List<String> keys = List.of(key(memberId), PENDING_KEY);
+        Object[] args = {String.valueOf(postId), viewedAt, String.valueOf(maxSize), String.valueOf(ttlSeconds), field(memberId, postId)};
+        try {
+            Long result = redisTemplate.execute(REGISTER_SCRIPT, keys, args);
+            if (result != null && result < 0) {
+                load(memberId);
+                redisTemplate.execute(REGISTER_SCRIPT, keys, args);
+            }
+        } catch (Exception e) {
+            // Redis 장애 시 기존 방식으로 바로 반영
+            log.warn("최근 본 글 Redis 반영 실패, DB 직접 반영: memberId={}, postId={}", memberId, postId, e);
+            postDAO.registerRecent(memberId, postId);
+        }
+    }
+
+    @Override
+    public List<MyPagePostRecentDTO> getRecentPosts(Long memberId) {
+        Set<ZSetOperations.TypedTuple<String>> recents;
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(key(memberId)))) {
+                load(memberId);
+            }
+            recents = redisTemplate.opsForZSet().reverseRangeWithScores(key(memberId), 0, maxSize - 1);
+        } catch (Exception e) {
+            log.warn("최근 본 글 Redis 조회 실패, DB 조회: memberId={}", memberId, e);
+            return myPagePostDAO.readPostRecent(memberId);
+        }
+        if (recents == null) {
+            return List.of();
+        }
+
+        List<ZSetOperations.TypedTuple<String>> ordered = recents.stream()
+                .filter((recent) -> !SENTINEL.equals(recent.getValue()))
+                .toList();
+        if (ordered.isEmpty()) {
+            return List.of();
+        }
+
+        // 제목 / 카테고리는 게시글 ID 로 한 번에 조회 (삭제된 게시글은 빠진다)
+        List<Long> postIds = ordered.stream().map((recent) -> Long.valueOf(recent.getValue())).toList();
+        Map<Long, MyPagePostRecentDTO> posts = myPagePostDAO.readPostRecentByPostIds(memberId, postIds).stream()
+                .collect(Collectors.toMap(MyPagePostRecentDTO::getPostId, Function.identity()));
+
+        List<MyPagePostRecentDTO> result = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> recent : ordered) {
+            MyPagePostRecentDTO post = posts.get(Long.valueOf(recent.getValue()));
+            if (post != null) {
+                post.setPostRecentCreateAt(new Date(recent.getScore().longValue()));
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void remove(Long memberId, Long postId) {
+        try {
+            redisTemplate.opsForZSet().remove(key(memberId), String.valueOf(postId));
+            redisTemplate.opsForHash().delete(PENDING_KEY, field(memberId, postId));
+            redisTemplate.opsForHash().delete(FLUSHING_KEY, field(memberId, postId));
+        } catch (Exception e) {
+            log.warn("최근 본 글 Redis 삭제 실패: memberId={}, postId={}", memberId, postId, e);
+        }
+        myPagePostDAO.deletePostRecent(memberId, postId);
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void flush() {
+        redisHashDrainer.drain(PENDING_KEY, FLUSHING_KEY, this::applyRecentViews);
+    }
+
+    private void applyRecentViews(Map<String, String> entries) {
+        List<PostRecentVO> recents = new ArrayList<>();
+        Set<Long> memberIds = new LinkedHashSet<>();
+        entries.forEach((field, viewedAt) -> {
+            //  필드 : 회원ID:게시글ID
+            String[] parts = field.split(":");
+            PostRecentVO recent = new PostRecentVO();
+            recent.setMemberId(Long.valueOf(parts[0]));
+            recent.setPostId(Long.valueOf(parts[1]));
+            recent.setPostRecentCreateAt(new Date(Long.parseLong(viewedAt)));
+            recents.add(recent);
+            memberIds.add(recent.getMemberId());
+        });
+
+        for (int from = 0; from < recents.size(); from += FLUSH_CHUNK_SIZE) {
+            postDAO.mergeRecentViews(recents.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, recents.size())));
+        }
+        //  Redis 와 같이 회원별 최신 maxSize 개만 남긴다
+        List<Long> members = new ArrayList<>(memberIds);
+        for (int from = 0; from < members.size(); from += 1000) {
+            postDAO.deleteRecentViewsBeyond(members.subList(from, Math.min(from + 1000, members.size())), maxSize);
+        }
+        log.debug("최근 본 글 반영: {}건", entries.size());
+    }
+
+    //  DB 에 남아 있는 최근 본 글로 채우기
+    private void load(Long memberId) {
+        List<MyPagePostRecentDTO> stored = myPagePostDAO.readPostRecent(memberId).stream()
+                .filter((recent) -> recent.getPostRecentCreateAt() != null)
+                .sorted(Comparator.comparing(MyPagePostRecentDTO::getPostRecentCreateAt).reversed())
+                .limit(maxSize)
+                .toList();
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        for (MyPagePostRecentDTO recent : stored) {
+            args.add(String.valueOf(recent.getPostRecentCreateAt().getTime()));
+            args.add(String.valueOf(recent.getPostId()));
+        }
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(memberId)), args.toArray());
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String field(Long memberId, Long postId) {
+        return memberId + ":" + postId;
+    }
+}
@@ -1,9 +1,11 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.domain.dto.LikeResultDTO;
 import com.app.bluecotton.domain.dto.post.*;
 import com.app.bluecotton.domain.vo.post.*;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PostService {
     // 게시물 목록 조회 (좋아요 여부 포함)
@@ -16,6 +18,26 @@ public interface PostService {
             int size
     );
 
+    // 게시물 목록 조회 (전체 개수 대신 다음 페이지 여부) - posts, hasNext
+    Map<String, Object> getPostsWithHasNext(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            String q,
+            int page,
+            int size
+    );
+
+    // 게시물 목록 조회 (커서 방식) - posts, nextCursor, hasNext
+    Map<String, Object> getPostsByCursor(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            String q,
+            String cursor,
+            int size
+    );
+
     // 토탈 게시글 수 처리
     int countPosts(String somCategory, String q);
 
@@ -33,8 +55,14 @@ public interface PostService {
     //  게시물 삭제
     public void withdraw(Long postId);
 
-    //  임시저장 등록
-    public void registerDraft(PostDraftVO postDraftVO);
+    //  임시저장 등록 (바로 DB 반영) - 임시저장 ID
+    public Long registerDraft(PostDraftVO postDraftVO);
+
+    //  임시저장 자동 저장 (Redis, DB 반영은 입력이 멈춘 뒤)
+    public PostDraftVO autosaveDraft(PostDraftVO postDraftVO);
+
+    //  작업 중인 임시저장 조회 (회원 / 솜별)
+    public PostDraftVO getWorkingDraft(Long memberId, Long somId);
 
     //  임시저장 조회 (이어쓰기)
     public PostDraftVO getDraft(Long id);
@@ -61,18 +89,26 @@ public interface PostService {
     public void deleteReplyById(Long replyId);
 
     //  게시글 좋아요
-    public void toggleLike(Long postId, Long memberId);
+    public LikeResultDTO toggleLike(Long postId, Long memberId);
 
     //  댓글 좋아요
-    public void toggleCommentLike(Long commentId, Long memberId);
+    public LikeResultDTO toggleCommentLike(Long commentId, Long memberId);
 
     //  답글 좋아요
-    public void toggleReplyLike(Long ReplyId, Long memberId);
+    public LikeResultDTO toggleReplyLike(Long ReplyId, Long memberId);
 
     //  게시글 상세 조회
     PostDetailDTO getPost(Long postId, Long memberId);
+
+    //  게시글 댓글 페이지 조회 (답글 포함)
+    public List<PostCommentDTO> getCommentPage(Long postId, Long memberId, int page, int size);
+
+    //  댓글의 답글 조회
+    public List<PostReplyDTO> getReplies(Long commentId, Long memberId);
     public PostNeighborDTO getPrevPost(Long id);
     public PostNeighborDTO getNextPost(Long id);
+    //  이전글 + 다음글 (상세 화면용, 조회 한 번)
+    public PostNeighborsDTO getNeighbors(Long id);
 
     //  최근본글 추가
     public void registerRecent(Long memberId, Long postId);
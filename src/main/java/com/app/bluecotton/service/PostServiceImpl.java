@@ -1,25 +1,52 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
+import com.app.bluecotton.domain.dto.LikeResultDTO;
 import com.app.bluecotton.domain.dto.post.*;
+import com.app.bluecotton.domain.vo.LikeTarget;
+import com.app.bluecotton.domain.vo.ReportTarget;
 import com.app.bluecotton.domain.vo.post.*;
 import com.app.bluecotton.exception.PostException;
 import com.app.bluecotton.repository.PostDAO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(rollbackFor = Exception.class)
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    // Markdown 이미지 ![...](url)
+    private static final Pattern MARKDOWN_IMAGE_PATTERN = Pattern.compile("!\\[[^\\]]*\\]\\(([^)]+)\\)");
+    // 기본 썸네일 (postImageMapper.insertDefaultImage 와 같은 경로)
+    private static final String DEFAULT_POST_IMAGE_URL = "/upload/default/default_post.jpg";
+    // 커서 목록 한 번에 읽는 최대 게시글 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+
     private final PostDAO postDAO;
     private final PostImageService postImageService;
+    private final PostViewCountService postViewCountService;
+    private final SearchIndexService searchIndexService;
+    private final LikeService likeService;
+    private final PostRankingService postRankingService;
+    private final PostRecentService postRecentService;
+    private final PostDraftService postDraftService;
+    private final PostQuotaService postQuotaService;
+    private final ReportService reportService;
+    private final PostNeighborService postNeighborService;
 
     // 게시글 목록 조회
     @Override
@@ -31,39 +58,234 @@ public class PostServiceImpl implements PostService {
             int page,
             int size
     ) {
-        return postDAO.findPosts(somCategory, orderType, memberId, q, page, size);
+        List<PostMainDTO> posts = loadPosts(somCategory, orderType, memberId, q, page, size, 0);
+        applyPostLikeStates(posts, memberId);
+        return posts;
+    }
+
+    // 게시글 목록 조회 (전체 개수 대신 다음 페이지 여부)
+    @Override
+    public Map<String, Object> getPostsWithHasNext(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            String q,
+            int page,
+            int size
+    ) {
+        List<PostMainDTO> posts = new ArrayList<>(loadPosts(somCategory, orderType, memberId, q, page, size, 1));
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = new ArrayList<>(posts.subList(0, size));
+        }
+        applyPostLikeStates(posts, memberId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("posts", posts);
+        result.put("hasNext", hasNext);
+        return result;
+    }
+
+    // lookahead : 다음 페이지 여부 확인용으로 더 읽을 행 수
+    private List<PostMainDTO> loadPosts(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            String q,
+            int page,
+            int size,
+            int lookahead
+    ) {
+        // 랭킹 정렬의 앞쪽 페이지는 랭킹에서 ID 를 꺼내고 DB 는 해당 ID 만 조회
+        if (q == null || q.isEmpty()) {
+            List<Long> rankedIds = postRankingService.findRankedIds(orderType, somCategory, page * size, size + lookahead);
+            if (rankedIds != null) {
+                return findPostsInOrder(rankedIds, somCategory, memberId);
+            }
+        }
+
+        orderType = toDbOrderType(orderType);
+        if (!isIndexedSearch(q)) {
+            return postDAO.findPosts(somCategory, orderType, memberId, q, page, size, lookahead);
+        }
+
+        // 검색 색인에서 ID 를 찾고 SQL 은 찾은 ID 만 조회
+        List<Long> searchIds = searchIndexService.searchPostIds(q, somCategory);
+        if (searchIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 최신순은 ID 순서와 같으므로 메모리에서 한 페이지 분량만 잘라서 넘긴다
+        int from = page * size;
+        if (!isCountOrder(orderType)) {
+            if (from >= searchIds.size()) {
+                return List.of();
+            }
+            List<Long> pageIds = searchIds.subList(from, Math.min(from + size + lookahead, searchIds.size()));
+            return postDAO.findPostsBySearchIds(somCategory, orderType, memberId, chunk(pageIds), 0, size, lookahead);
+        }
+        List<Long> sortedIds = sortSearchIds(searchIds, orderType, null, from + size + lookahead);
+        if (from >= sortedIds.size()) {
+            return List.of();
+        }
+        return findPostsInOrder(sortedIds.subList(from, sortedIds.size()), somCategory, memberId);
+    }
+
+    // 게시글 목록 조회 (커서 방식)
+    // 한 건 더 읽어서 다음 페이지 존재 여부를 판단하고, 마지막 행으로 다음 커서를 만든다
+    @Override
+    public Map<String, Object> getPostsByCursor(
+            String somCategory,
+            String orderType,
+            Long memberId,
+            String q,
+            String cursor,
+            int size
+    ) {
+        orderType = toDbOrderType(orderType);
+        size = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        PostFeedCursor feedCursor = (cursor == null || cursor.isBlank())
+                ? null
+                : PostFeedCursor.decode(cursor, orderType);
+
+        List<List<Long>> searchIds = null;
+        List<Long> sortedIds = null;
+        if (isIndexedSearch(q)) {
+            List<Long> ids = searchIndexService.searchPostIds(q, somCategory);
+            if (isCountOrder(orderType)) {
+                ids = sortSearchIds(ids, orderType, feedCursor, size + 1);
+                sortedIds = ids;
+            } else {
+                // 최신순은 ID 순서와 같으므로 커서 다음의 한 페이지 분량만 넘긴다
+                Long afterId = feedCursor == null ? null : feedCursor.getId();
+                ids = ids.stream()
+                        .filter((id) -> afterId == null || id < afterId)
+                        .limit(size + 1L)
+                        .toList();
+            }
+            if (ids.isEmpty()) {
+                Map<String, Object> empty = new HashMap<>();
+                empty.put("posts", List.of());
+                empty.put("hasNext", false);
+                empty.put("nextCursor", null);
+                return empty;
+            }
+            searchIds = chunk(ids);
+        }
+
+        List<PostMainDTO> posts = new ArrayList<>(sortedIds != null
+                ? findPostsInOrder(sortedIds, somCategory, memberId)
+                : postDAO.findPostsByCursor(somCategory, orderType, memberId, q, searchIds, feedCursor, size + 1)
+        );
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = new ArrayList<>(posts.subList(0, size));
+        }
+        //  다음 커서는 DB 정렬값으로 만든다
+        String nextCursor = hasNext ? PostFeedCursor.encode(orderType, posts.get(posts.size() - 1)) : null;
+        applyPostLikeStates(posts, memberId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("posts", posts);
+        result.put("hasNext", hasNext);
+        result.put("nextCursor", nextCursor);
+        return result;
     }
 
     // 토탈 게시글 수 처리
+    // 필터 조합별로 짧게 캐시, 게시글 등록/삭제 시 비움
     @Override
+    @Cacheable(
+            cacheNames = CacheConfig.POST_COUNT_CACHE,
+            key = "(#somCategory == null ? '' : #somCategory.toUpperCase()) + ':' + (#q == null ? '' : #q)"
+    )
     public int countPosts(String somCategory, String q) {
+        if (isIndexedSearch(q)) {
+            return searchIndexService.searchPostIds(q, somCategory).size();
+        }
         return postDAO.countPosts(somCategory, q);
     }
 
+    // 검색어가 있고 검색 색인이 준비됐으면 색인으로 검색
+    private boolean isIndexedSearch(String q) {
+        return q != null && !q.isEmpty() && searchIndexService.isReady();
+    }
+
+    // 랭킹 ID 순서대로 게시글 조회 (그사이 삭제된 게시글은 빠진다)
+    private List<PostMainDTO> findPostsInOrder(List<Long> ids, String somCategory, Long memberId) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        List<PostMainDTO> posts = new ArrayList<>(
+                postDAO.findPostsBySearchIds(somCategory, null, memberId, chunk(ids), 0, ids.size(), 0)
+        );
+        posts.sort(Comparator.comparing((post) -> positions.get(post.getId())));
+        return posts;
+    }
+
+    // 트렌딩은 랭킹에만 있으므로 DB 로 조회할 때는 좋아요순으로
+    private String toDbOrderType(String orderType) {
+        return "trending".equals(orderType) ? "popular" : orderType;
+    }
+
+    // 검색 결과 전체를 조회수 / 좋아요 / 댓글순으로 정렬해 앞쪽 limit 개의 ID (커서가 있으면 커서 다음부터)
+    // ID 1000개 묶음마다 SQL 로 앞쪽 limit 건만 정렬해 가져와 합치므로 바인드 변수는 문장마다 1000개 이하이고,
+    // 오래된 검색 결과도 정렬 대상이라 countPosts 의 전체 개수와 페이지 수가 맞는다
+    private List<Long> sortSearchIds(List<Long> searchIds, String orderType, PostFeedCursor cursor, int limit) {
+        List<PostSortKeyDTO> sortKeys = new ArrayList<>();
+        for (List<Long> ids : chunk(searchIds)) {
+            sortKeys.addAll(postDAO.findSearchSortKeys(orderType, ids, cursor, limit));
+        }
+        sortKeys.sort(Comparator.comparing(PostSortKeyDTO::getSortKey, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(PostSortKeyDTO::getId, Comparator.reverseOrder()));
+        return sortKeys.stream().limit(limit).map(PostSortKeyDTO::getId).toList();
+    }
+
+    private boolean isCountOrder(String orderType) {
+        return "view".equals(orderType) || "popular".equals(orderType) || "comment".equals(orderType);
+    }
+
+    // Oracle IN 절 1000개 제한
+    private List<List<Long>> chunk(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += 1000) {
+            chunks.add(ids.subList(from, Math.min(from + 1000, ids.size())));
+        }
+        return chunks;
+    }
+
     // 게시글 등록 + draft 자동 삭제 (트랜잭션)
     @Override
+    @CacheEvict(cacheNames = CacheConfig.POST_COUNT_CACHE, allEntries = true)
     public Long write(PostVO postVO, List<Long> postImageIds, Long draftId) {
-        // ０） 금일 게시글 여부 확인
-        int count = postDAO.existsTodayPostInSom(postVO.getMemberId(), postVO.getSomId());
-        if (count > 0) {
+        // ０） 금일 게시글 여부 확인 (Redis SETNX 로 동시 등록 중 하나만 통과, DB 확인 포함)
+        if (!postQuotaService.tryAcquireDaily(postVO.getMemberId(), postVO.getSomId())) {
             throw new PostException("이미 오늘 해당 솜에 게시글을 작성했습니다.");
         }
         // 1) 게시글 등록
         postDAO.insert(postVO);
+        // 집계 행 생성 (좋아요 0, 댓글 0)
+        postDAO.addPostLikeCount(postVO.getId(), 0);
         // 2) 이미지 처리
         if (postImageIds != null && !postImageIds.isEmpty()) {
-            for (Long imageId : postImageIds) {
-                // 이미지 → postId 연결
-                postImageService.updatePostId(imageId, postVO.getId());
-            }
+            // 이미지 → postId 연결 (UPDATE 한 번)
+            postImageService.updatePostIds(postImageIds, postVO.getId());
         } else {
             // 기본 썸네일 등록
             postImageService.insertDefaultImage(postVO.getId());
         }
-        // 3) 임시저장 삭제
-        if (draftId != null) {
-            postDAO.deleteDraftById(draftId);
-        }
+        // 3) 임시저장 삭제 (자동 저장 중인 임시저장 포함, 롤백되면 자동 저장 내용 복구)
+        postDraftService.consume(postVO.getMemberId(), postVO.getSomId(), draftId);
+        // 4) 검색 색인 반영
+        searchIndexService.indexPost(postVO.getId());
+        // 5) 랭킹 / 이전글·다음글 반영
+        postRankingService.addPost(postVO.getId());
+        postNeighborService.addPost(postVO.getId(), postVO.getPostTitle());
         return postVO.getId();
     }
 
@@ -75,62 +297,65 @@ public class PostServiceImpl implements PostService {
 
     // 게시글 삭제
     @Override
+    @CacheEvict(cacheNames = CacheConfig.POST_COUNT_CACHE, allEntries = true)
     public void withdraw(Long postId) {
-        // postId로 답글 관련 삭제
-        postDAO.deleteReplyReportsByPostId(postId);
-        postDAO.deleteReplyLikesByPostId(postId);
-        postDAO.deleteRepliesByPostId(postId);
-        // postId로 댓글 관련 삭제
-        postDAO.deleteCommentReportsByPostId(postId);
-        postDAO.deleteCommentLikesByPostId(postId);
-        postDAO.deleteCommentsByPostId(postId);
-        // postId로 게시글 관련 삭제
-        postDAO.deleteLikesByPostId(postId);
-        postDAO.deleteReportsByPostId(postId);
-        postDAO.deletePostImages(postId);
-        postDAO.deleteRecentsByPostId(postId);
-        // 게시글 삭제
-        postDAO.deletePostById(postId);
+        // 답글 → 댓글 → 게시글 연관 데이터까지 PL/SQL 블록 한 번으로 삭제
+        postDAO.deletePostsCascade(List.of(postId));
+        // 검색 색인 제거
+        searchIndexService.removePost(postId);
+        // 랭킹 / 이전글·다음글 제거
+        postRankingService.removePost(postId);
+        postNeighborService.removePosts(List.of(postId));
     }
 
     // 댓글 삭제
     @Override
     public void deleteComment(Long commentId) {
-        // commentId로 답글 관련 삭제
-        postDAO.deleteReplyLikesByCommentId(commentId);
-        postDAO.deleteReplyReportsByCommentId(commentId);
-        postDAO.deleteRepliesByCommentId(commentId);
-        // commentId로 댓글 관련 삭제
-        postDAO.deleteCommentReportsByCommentId(commentId);
-        postDAO.deleteCommentLikesByCommentId(commentId);
-        // commentId로 댓글 삭제
-        postDAO.deleteCommentById(commentId);
+        // 답글 / 좋아요 / 신고 삭제 + 게시글 댓글 수 재계산까지 PL/SQL 블록 한 번으로
+        // 함께 지워진 답글 수를 알 수 없으므로 댓글순 랭킹은 주기적 재구성 때 맞춘다
+        postDAO.deleteCommentsCascade(List.of(commentId));
     }
 
     // 답글 삭제
     @Override
     public void deleteReplyById(Long replyId) {
+        Long postId = postDAO.findPostIdByReplyId(replyId);
         // ReplyId로 답글 관련 삭제
         postDAO.deleteReplyLikeByReplyId(replyId);
         postDAO.deleteReplyReportByReplyId(replyId);
         // ReplyId로 답글 삭제
         postDAO.deleteReplyById(replyId);
+        // 게시글 댓글 수 감소
+        if (postId != null) {
+            postDAO.addPostCommentCount(postId, -1);
+            postRankingService.recordComment(postId, -1);
+        }
     }
 
     // 임시저장 등록 / 조회 / 삭제
     @Override
-    public void registerDraft(PostDraftVO postDraftVO) {
-        postDAO.insertDraft(postDraftVO);
+    public Long registerDraft(PostDraftVO postDraftVO) {
+        return postDraftService.save(postDraftVO);
+    }
+
+    @Override
+    public PostDraftVO autosaveDraft(PostDraftVO postDraftVO) {
+        return postDraftService.autosave(postDraftVO);
+    }
+
+    @Override
+    public PostDraftVO getWorkingDraft(Long memberId, Long somId) {
+        return postDraftService.getWorkingDraft(memberId, somId);
     }
 
     @Override
     public PostDraftVO getDraft(Long id) {
-        return postDAO.findDraftById(id);
+        return postDraftService.getDraft(id);
     }
 
     @Override
     public void deleteDraft(Long id) {
-        postDAO.deleteDraftById(id);
+        postDraftService.deleteDraft(id);
     }
 
     // 수정 게시글 조회 / 수정
@@ -147,29 +372,31 @@ public class PostServiceImpl implements PostService {
 
         // 1) 게시글 기본 정보 수정
         postDAO.update(dto.toPostVO());
+        searchIndexService.indexPost(postId);
+        if (dto.getPostTitle() != null) {
+            postNeighborService.addPost(postId, dto.getPostTitle());
+        }
 
-        // 2) 기존 이미지 전부 삭제 (이게 핵심)
-        postImageService.deleteImagesByPostId(postId);
-
-        // 3) 본문 내용에서 이미지 URL 다시 추출
+        // 2) 본문 내용에서 이미지 URL 다시 추출
         String content = dto.getPostContent();
         if (content == null) content = "";
 
         List<String> imageUrls = extractImageUrlsFromMarkdown(content);
 
-        // 4) 에디터에 이미지 하나도 없으면 → 기본 썸네일 1장만 넣기
+        // 3) 에디터에 이미지 하나도 없으면 → 기본 썸네일 1장만
+        List<PostImageVO> images = new ArrayList<>();
         if (imageUrls.isEmpty()) {
-            postImageService.insertDefaultImage(postId);
-            return;
+            images.add(buildPostImageVOFromUrl(DEFAULT_POST_IMAGE_URL, postId));
         }
-
-        // 5) 에디터에 남아있는 이미지들만 다시 INSERT
         for (String url : imageUrls) {
             PostImageVO vo = buildPostImageVOFromUrl(url, postId);
             if (vo != null) {
-                postImageService.insertImageWithPostId(vo);
+                images.add(vo);
             }
         }
+
+        // 4) 기존 이미지와 비교해서 빠진 이미지만 삭제, 새 이미지만 한 번에 INSERT
+        postImageService.syncImages(postId, images);
     }
 
     // Markdown에서 ![...](url) 형태의 url들만 추출
@@ -177,8 +404,7 @@ public class PostServiceImpl implements PostService {
         List<String> urls = new ArrayList<>();
         if (md == null) return urls;
 
-        Pattern p = Pattern.compile("!\\[[^\\]]*\\]\\(([^)]+)\\)");
-        Matcher m = p.matcher(md);
+        Matcher m = MARKDOWN_IMAGE_PATTERN.matcher(md);
         while (m.find()) {
             urls.add(m.group(1));
         }
@@ -200,46 +426,104 @@ public class PostServiceImpl implements PostService {
         return vo;
     }
 
+    // 게시글 / 댓글 / 답글 좋아요 상태를 Redis 값으로 덮어쓰기 (Redis 에 올라온 대상만)
+    private void applyLikeStates(PostDetailDTO detail, Long memberId) {
+        LikeResultDTO postLike = likeService.getLikeState(LikeTarget.POST, detail.getId(), memberId);
+        detail.setPostLikeCount(postLike.getLikeCount());
+        detail.setPostIsLike(postLike.isLiked() ? 1 : 0);
+
+        applyCommentLikeStates(detail.getComments(), memberId);
+    }
+
+    // 목록의 좋아요 여부 / 수 - Redis 에 올라와 있는 게시글만 덮어쓴다 (나머지는 DB 값)
+    private void applyPostLikeStates(List<PostMainDTO> posts, Long memberId) {
+        if (posts == null || posts.isEmpty()) {
+            return;
+        }
+        Map<Long, LikeResultDTO> postLikes = likeService.getLoadedLikeStates(
+                LikeTarget.POST, posts.stream().map(PostMainDTO::getId).toList(), memberId);
+        posts.forEach((post) -> {
+            LikeResultDTO like = postLikes.get(post.getId());
+            if (like != null) {
+                post.setPostLikeCount((int) like.getLikeCount());
+                post.setPostIsLike(like.isLiked() ? 1 : 0);
+            }
+        });
+    }
+
+    // 댓글 (+ 담긴 대댓글) 좋아요 여부 / 수
+    private void applyCommentLikeStates(List<PostCommentDTO> comments, Long memberId) {
+        if (comments == null || comments.isEmpty()) {
+            return;
+        }
+        Map<Long, LikeResultDTO> commentLikes = likeService.getLoadedLikeStates(
+                LikeTarget.COMMENT, comments.stream().map(PostCommentDTO::getId).toList(), memberId);
+        comments.forEach((comment) -> {
+            LikeResultDTO like = commentLikes.get(comment.getId());
+            if (like != null) {
+                comment.setPostCommentLikeCount(like.getLikeCount());
+                comment.setIsCommentLiked(like.isLiked() ? 1 : 0);
+            }
+        });
+        applyReplyLikeStates(comments.stream()
+                .filter((comment) -> comment.getReplies() != null)
+                .flatMap((comment) -> comment.getReplies().stream())
+                .toList(), memberId);
+    }
+
+    private void applyReplyLikeStates(List<PostReplyDTO> replies, Long memberId) {
+        if (replies == null || replies.isEmpty()) {
+            return;
+        }
+        Map<Long, LikeResultDTO> replyLikes = likeService.getLoadedLikeStates(
+                LikeTarget.REPLY, replies.stream().map(PostReplyDTO::getId).toList(), memberId);
+        replies.forEach((reply) -> {
+            LikeResultDTO like = replyLikes.get(reply.getId());
+            if (like != null) {
+                reply.setPostReplyLikeCount(like.getLikeCount());
+                reply.setIsReplyLiked(like.isLiked() ? 1 : 0);
+            }
+        });
+    }
+
     // 댓글 좋아요 토글
     @Override
-    public void toggleCommentLike(Long commentId, Long memberId) {
-        if (postDAO.existsCommentLike(commentId, memberId)) {
-            postDAO.deleteCommentLike(commentId, memberId);
-        } else {
-            postDAO.insertCommentLike(commentId, memberId);
-        }
+    public LikeResultDTO toggleCommentLike(Long commentId, Long memberId) {
+        return likeService.toggle(LikeTarget.COMMENT, commentId, memberId);
     }
 
     // 대댓글 좋아요 토글
     @Override
-    public void toggleReplyLike(Long replyId, Long memberId) {
-        if (postDAO.existsReplyLike(replyId, memberId)) {
-            postDAO.deleteReplyLike(replyId, memberId);
-        } else {
-            postDAO.insertReplyLike(replyId, memberId);
-        }
+    public LikeResultDTO toggleReplyLike(Long replyId, Long memberId) {
+        return likeService.toggle(LikeTarget.REPLY, replyId, memberId);
     }
 
     // 댓글 등록
     @Override
     public void insertComment(PostCommentVO postCommentVO) {
         postDAO.insertComment(postCommentVO);
+        postDAO.addPostCommentCount(postCommentVO.getPostId(), 1);
+        postRankingService.recordComment(postCommentVO.getPostId(), 1);
     }
 
     // 대댓글 등록
     @Override
     public void insertReply(PostReplyVO postReplyVO) {
         postDAO.insertReply(postReplyVO);
+        postDAO.addPostCommentCountByCommentId(postReplyVO.getPostCommentId(), 1);
+        Long postId = postDAO.findPostIdByCommentId(postReplyVO.getPostCommentId());
+        if (postId != null) {
+            postRankingService.recordComment(postId, 1);
+        }
     }
 
     // 게시글 좋아요 토글
+    // Redis 에서 원자적으로 토글하고 좋아요 테이블 / 집계는 LikeFlushScheduler 가 반영
     @Override
-    public void toggleLike(Long postId, Long memberId) {
-        if (postDAO.existsLike(postId, memberId)) {
-            postDAO.deleteLike(postId, memberId);
-        } else {
-            postDAO.insertLike(postId, memberId);
-        }
+    public LikeResultDTO toggleLike(Long postId, Long memberId) {
+        LikeResultDTO result = likeService.toggle(LikeTarget.POST, postId, memberId);
+        postRankingService.recordLike(postId, result.getLikeCount(), result.isLiked());
+        return result;
     }
 
     // 게시글 상세 조회
@@ -247,88 +531,135 @@ public class PostServiceImpl implements PostService {
     public PostDetailDTO getPost(Long postId, Long memberId) {
         List<PostImageVO> postImages = postImageService.selectImagesByPostId(postId);
 
-        // 조회수 증가
-        postDAO.updateReadCount(postId);
-
         // 게시글(좋아요 여부 포함)
         PostDetailDTO detail = postDAO.selectPost(postId, memberId);
 
         if (detail == null) return null;
 
+        // 조회수 증가 (Redis 누적 후 주기적으로 반영) + 아직 반영되지 않은 조회수 합산
+        boolean counted = postViewCountService.increase(postId, memberId);
+        long readCount = detail.getPostReadCount() == null ? 0L : detail.getPostReadCount();
+        detail.setPostReadCount(readCount + postViewCountService.getPendingCount(postId));
+        // 조회수순 / 트렌딩 랭킹 반영
+        postRankingService.recordView(postId, detail.getPostReadCount(), counted);
+
         // 댓글
         List<PostCommentDTO> comments = postDAO.selectComment(postId, memberId);
 
-        // 각 댓글의 대댓글
-        for (PostCommentDTO c : comments) {
-            List<PostReplyDTO> replies = postDAO.selectReply(c.getId(), memberId);
-            c.setReplies(replies);
+        // 게시글의 대댓글을 한 번에 조회해서 댓글별로 묶기
+        if (!comments.isEmpty()) {
+            attachReplies(comments, postDAO.selectRepliesByPostId(postId, memberId));
         }
 
         detail.setPostImageList(postImages);
         detail.setComments(comments);
 
+        // 좋아요 여부 / 수는 아직 DB에 반영되지 않은 변경이 있을 수 있어 Redis 값으로 덮어쓴다
+        applyLikeStates(detail, memberId);
+
         return detail;
     }
 
+    // 게시글 댓글 페이지 조회
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostCommentDTO> getCommentPage(Long postId, Long memberId, int page, int size) {
+        page = Math.max(page, 0);
+        size = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+        List<PostCommentDTO> comments = postDAO.selectCommentPage(postId, memberId, page, size);
+        if (comments.isEmpty()) return comments;
+
+        // 현재 페이지 댓글들의 대댓글만 한 번에 조회
+        List<Long> commentIds = comments.stream().map(PostCommentDTO::getId).toList();
+        attachReplies(comments, postDAO.selectRepliesByCommentIds(commentIds, memberId));
+        applyCommentLikeStates(comments, memberId);
+        return comments;
+    }
+
+    // 댓글의 대댓글 조회
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostReplyDTO> getReplies(Long commentId, Long memberId) {
+        List<PostReplyDTO> replies = postDAO.selectReply(commentId, memberId);
+        applyReplyLikeStates(replies, memberId);
+        return replies;
+    }
+
+    // 대댓글을 댓글 ID 기준으로 묶어서 각 댓글에 담기
+    private void attachReplies(List<PostCommentDTO> comments, List<PostReplyDTO> replies) {
+        Map<Long, List<PostReplyDTO>> repliesByCommentId = replies.stream()
+                .collect(Collectors.groupingBy(PostReplyDTO::getPostCommentId));
+        for (PostCommentDTO c : comments) {
+            c.setReplies(repliesByCommentId.getOrDefault(c.getId(), new ArrayList<>()));
+        }
+    }
+
     // 이전글 id
     @Override
     @Transactional(readOnly = true)
     public PostNeighborDTO getPrevPost(Long id) {
-        return postDAO.selectPrevPost(id);
+        return postNeighborService.getNeighbors(id).getPrev();
     }
 
     // 다음글 id
     @Override
     @Transactional(readOnly = true)
     public PostNeighborDTO getNextPost(Long id) {
-        return postDAO.selectNextPost(id);
+        return postNeighborService.getNeighbors(id).getNext();
+    }
+
+    // 이전글 + 다음글 (한 번에)
+    @Override
+    @Transactional(readOnly = true)
+    public PostNeighborsDTO getNeighbors(Long id) {
+        return postNeighborService.getNeighbors(id);
     }
 
     // 최근 본 글 추가
     @Override
     public void registerRecent(Long memberId, Long postId) {
-        postDAO.registerRecent(memberId, postId);
+        // Redis 에 회원별 최신 N개만 유지하고 DB 반영은 PostRecentScheduler 가 일괄로
+        postRecentService.register(memberId, postId);
     }
 
     // 게시글 신고
     @Override
     public void reportPost(PostReportVO postReportVO) {
 
-        // 신고 중복 체크
-        boolean exists = postDAO.existsPostReport(
+        // 중복 체크와 저장을 한 번에 (Redis 신고 SET + MERGE)
+        boolean reported = reportService.report(ReportTarget.POST,
                 postReportVO.getPostId(),
-                postReportVO.getMemberId()
+                postReportVO.getMemberId(),
+                () -> postDAO.reportPost(postReportVO)
         );
-        if (exists) {
+        if (!reported) {
             throw new PostException("이미 이 게시글을 신고했습니다.");
         }
-        // 신고 저장
-        postDAO.reportPost(postReportVO);
     }
 
     // 댓글 신고
     @Override
     public void reportComment(PostCommentReportVO postCommentReportVO) {
-        boolean exists = postDAO.existsCommentReport(
+        boolean reported = reportService.report(ReportTarget.COMMENT,
                 postCommentReportVO.getPostCommentId(),
-                postCommentReportVO.getMemberId()
+                postCommentReportVO.getMemberId(),
+                () -> postDAO.reportComment(postCommentReportVO)
         );
-        if (exists) {
+        if (!reported) {
             throw new PostException("이미 이 댓글을 신고했습니다.");
         }
-        postDAO.reportComment(postCommentReportVO);
     }
 
     // 답글 신고
     @Override
     public void reportReply(PostReplyReportVO postReplyReportVO) {
-        boolean exists = postDAO.existsReplyReport(
+        boolean reported = reportService.report(ReportTarget.REPLY,
                 postReplyReportVO.getPostReplyId(),
-                postReplyReportVO.getMemberId()
+                postReplyReportVO.getMemberId(),
+                () -> postDAO.reportReply(postReplyReportVO)
         );
-        if (exists) {
+        if (!reported) {
             throw new PostException("이미 이 답글을 신고했습니다.");
         }
-        postDAO.reportReply(postReplyReportVO);
     }
 }
@@ -0,0 +1,12 @@
+package com.app.bluecotton.service;
+
+public interface PostViewCountService {
+    //  조회수 증가 (Redis에 누적, 중복 조회 제외) - 조회수에 포함됐으면 true
+    public boolean increase(Long postId, Long memberId);
+
+    //  아직 DB에 반영되지 않은 조회수
+    public long getPendingCount(Long postId);
+
+    //  누적된 조회수를 DB에 일괄 반영
+    public void flush();
+}
@@ -0,0 +1,94 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.util.RedisHashDrainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//  게시글 조회수 write-behind
+//  상세 조회마다 UPDATE 하지 않고 Redis 해시에 HINCRBY 로 누적한 뒤 스케줄러가 주기적으로 한 번에 반영한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountServiceImpl implements PostViewCountService {
+
+    private static final String PENDING_KEY = "post:view:pending";
+    private static final String FLUSHING_KEY = "post:view:flushing";
+    private static final String DEDUP_KEY_PREFIX = "post:view:dedup:";
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostDAO postDAO;
+    private final RedisHashDrainer redisHashDrainer;
+
+    //  같은 회원이 이 시간 안에 다시 조회하면 조회수에 포함하지 않음 (0 이면 중복 제외 안 함)
+    @Value("${post.view.dedup-seconds:600}")
+    private long dedupSeconds;
+
+    @Override
+    public boolean increase(Long postId, Long memberId) {
+        try {
+            if (memberId != null && memberId > 0 && dedupSeconds > 0) {
+                String dedupKey = DEDUP_KEY_PREFIX + postId + ":" + memberId;
+                Boolean first = redisTemplate.opsForValue().setIfAbsent(dedupKey, "1", Duration.ofSeconds(dedupSeconds));
+                if (!Boolean.TRUE.equals(first)) {
+                    return false;
+                }
+            }
+            redisTemplate.opsForHash().increment(PENDING_KEY, String.valueOf(postId), 1);
+            return true;
+        } catch (Exception e) {
+            // Redis 장애 시 기존 방식으로 바로 반영
+            log.warn("조회수 Redis 누적 실패, DB 직접 반영: postId={}", postId, e);
+            postDAO.updateReadCount(postId);
+            return true;
+        }
+    }
+
+    @Override
+    public long getPendingCount(Long postId) {
+        try {
+            HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+            String field = String.valueOf(postId);
+            long pending = parse(hash.get(PENDING_KEY, field));
+            //  반영 중인 값은 DB 에 커밋되기 전까지만 더한다 (반영 중일 때만 묶음 ID 확인)
+            String flushing = hash.get(FLUSHING_KEY, field);
+            if (flushing != null && !redisHashDrainer.isApplied(FLUSHING_KEY)) {
+                pending += parse(flushing);
+            }
+            return pending;
+        } catch (Exception e) {
+            return 0L;
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public void flush() {
+        redisHashDrainer.drain(PENDING_KEY, FLUSHING_KEY, (entries) -> {
+            List<Map.Entry<String, String>> entryList = new ArrayList<>(entries.entrySet());
+            for (int from = 0; from < entryList.size(); from += FLUSH_CHUNK_SIZE) {
+                Map<Long, Long> readCounts = new LinkedHashMap<>();
+                entryList.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entryList.size()))
+                        .forEach((entry) -> readCounts.put(Long.valueOf(entry.getKey()), parse(entry.getValue())));
+                postDAO.addReadCounts(readCounts);
+            }
+            log.debug("조회수 반영: {}건", entries.size());
+        });
+    }
+
+    private long parse(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.ReportCountDTO;
+import com.app.bluecotton.domain.vo.ReportTarget;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+public interface ReportService {
+    //  신고 저장 (insert 는 이미 있으면 0 을 돌려주는 저장 쿼리)
+    //  이미 신고한 대상이면 false
+    public boolean report(ReportTarget target, Long targetId, Long memberId, IntSupplier insert);
+
+    //  회원이 대상을 이미 신고했는지
+    public boolean isReported(ReportTarget target, Long targetId, Long memberId);
+
+    //  대상별 신고 수 (신고가 없는 대상은 결과에서 빠짐)
+    public Map<Long, Long> getReportCounts(ReportTarget target, List<Long> targetIds);
+
+    //  신고가 많은 대상 순 (관리자 신고 처리 목록)
+    public List<ReportCountDTO> getMostReported(ReportTarget target, int limit);
+
+    //  신고 수 집계를 DB 기준으로 다시 구성
+    public void rebuildCounts();
+}
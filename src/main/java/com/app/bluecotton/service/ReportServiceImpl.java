@@ -0,0 +1,259 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.ReportCountDTO;
+import com.app.bluecotton.domain.vo.ReportTarget;
+import com.app.bluecotton.repository.ReportDAO;
+import com.app.bluecotton.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntSupplier;
+
+//  게시글 / 댓글 / 답글 / 상품 리뷰 신고 중복 방지
+//  대상별 신고 회원 집합을 Redis SET 에 두고 SADD 로 먼저 자리를 잡아 동시에 눌러도 한 번만 저장되게 한다
+//  저장 쿼리는 MERGE 라 Redis 가 비어 있거나 장애여도 DB 에서 중복이 걸러진다
+//  대상별 신고 수는 ZSET 에 모아 관리자 신고 처리 목록에 쓴다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportServiceImpl implements ReportService {
+
+    private static final String KEY_PREFIX = "report:";
+    private static final String COUNT_KEY_PREFIX = "report:count:";
+    //  신고가 하나도 없어도 SET 이 남아 있도록 넣어 두는 값
+    private static final String SENTINEL = "-";
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    //  KEYS[1] 신고 SET / ARGV[1] 회원, ARGV[2] TTL(초)
+    //  SET 이 아직 없으면 -1 (DB 에서 불러온 뒤 다시 호출), 새로 잡았으면 1, 이미 있으면 0
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "local added = redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return added",
+            Long.class
+    );
+
+    //  KEYS[1] 신고 SET / ARGV[1] 회원
+    private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end "
+                    + "return redis.call('SISMEMBER', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
+    //  KEYS[1] 신고 SET / ARGV[1] TTL(초), ARGV[2..] 회원 (SENTINEL 포함)
+    //  다른 요청이 먼저 불러왔으면 덮어쓰지 않는다
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('SADD', KEYS[1], unpack(ARGV, 2)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 신고 수 ZSET, KEYS[2] 새로 구성한 ZSET
+    //  새로 구성한 값이 없으면 (신고가 하나도 없으면) 기존 집계만 지운다
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('RENAME', KEYS[2], KEYS[1]) "
+                    + "else redis.call('DEL', KEYS[1]) end "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ReportDAO reportDAO;
+
+    //  신고 SET 보관 시간 (마지막 신고 / 조회 기준)
+    @Value("${report.cache.ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    @Override
+    public boolean report(ReportTarget target, Long targetId, Long memberId, IntSupplier insert) {
+        String key = key(target, targetId);
+        String member = String.valueOf(memberId);
+
+        boolean claimed = false;
+        try {
+            Long result = redisTemplate.execute(CLAIM_SCRIPT, List.of(key), member, String.valueOf(ttlSeconds));
+            if (result != null && result < 0) {
+                load(target, targetId);
+                result = redisTemplate.execute(CLAIM_SCRIPT, List.of(key), member, String.valueOf(ttlSeconds));
+            }
+            if (result != null && result == 0) {
+                return false;
+            }
+            claimed = result != null && result == 1;
+        } catch (Exception e) {
+            // Redis 장애 시 MERGE 로만 중복을 거른다
+            log.warn("신고 중복 Redis 확인 실패, DB 로 확인: {} {}", target, targetId, e);
+        }
+
+        int inserted;
+        try {
+            inserted = insert.getAsInt();
+        } catch (DuplicateKeyException e) {
+            //  유니크 인덱스에 걸림 - 다른 요청이 먼저 저장
+            return false;
+        } catch (RuntimeException e) {
+            if (claimed) {
+                release(key, member);
+            }
+            throw e;
+        }
+        //  0 이면 이미 DB 에 있던 신고 (SET 에는 그대로 남겨 둔다)
+        if (inserted == 0) {
+            return false;
+        }
+
+        TransactionCallbacks.afterCompletion(
+                () -> increaseCount(target, targetId),
+                claimed ? () -> release(key, member) : null
+        );
+        return true;
+    }
+
+    @Override
+    public boolean isReported(ReportTarget target, Long targetId, Long memberId) {
+        String key = key(target, targetId);
+        String member = String.valueOf(memberId);
+        try {
+            Long result = redisTemplate.execute(CHECK_SCRIPT, List.of(key), member);
+            if (result != null && result < 0) {
+                load(target, targetId);
+                result = redisTemplate.execute(CHECK_SCRIPT, List.of(key), member);
+            }
+            if (result != null && result >= 0) {
+                return result == 1;
+            }
+        } catch (Exception e) {
+            log.warn("신고 여부 Redis 조회 실패, DB 조회: {} {}", target, targetId, e);
+        }
+        return reportDAO.findReportMemberIds(target, targetId).contains(memberId);
+    }
+
+    @Override
+    public Map<Long, Long> getReportCounts(ReportTarget target, List<Long> targetIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (targetIds == null || targetIds.isEmpty()) {
+            return counts;
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(targetIds));
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(countKey(target)))) {
+                byte[] key = countKey(target).getBytes(StandardCharsets.UTF_8);
+                List<Object> scores = redisTemplate.executePipelined((RedisCallback<Object>) (connection) -> {
+                    for (Long targetId : ids) {
+                        connection.zSetCommands().zScore(key, String.valueOf(targetId).getBytes(StandardCharsets.UTF_8));
+                    }
+                    return null;
+                });
+                for (int i = 0; i < ids.size(); i++) {
+                    if (scores.get(i) instanceof Double score && score > 0) {
+                        counts.put(ids.get(i), score.longValue());
+                    }
+                }
+                return counts;
+            }
+        } catch (Exception e) {
+            log.warn("신고 수 Redis 조회 실패, DB 조회: {}", target, e);
+        }
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            reportDAO.findReportCountsByTargetIds(target, chunk)
+                    .forEach((count) -> counts.put(count.getTargetId(), count.getReportCount()));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<ReportCountDTO> getMostReported(ReportTarget target, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(countKey(target)))) {
+                Set<ZSetOperations.TypedTuple<String>> tuples =
+                        redisTemplate.opsForZSet().reverseRangeWithScores(countKey(target), 0, limit - 1);
+                List<ReportCountDTO> result = new ArrayList<>();
+                if (tuples != null) {
+                    tuples.forEach((tuple) -> result.add(new ReportCountDTO(
+                            Long.valueOf(tuple.getValue()), tuple.getScore() == null ? 0 : tuple.getScore().longValue())));
+                }
+                return result;
+            }
+        } catch (Exception e) {
+            log.warn("신고 많은 순 Redis 조회 실패, DB 조회: {}", target, e);
+        }
+        return reportDAO.findReportCounts(target, limit);
+    }
+
+    @Override
+    public void rebuildCounts() {
+        for (ReportTarget target : ReportTarget.values()) {
+            List<ReportCountDTO> counts = reportDAO.findReportCounts(target, null);
+            String rebuildKey = countKey(target) + ":rebuild";
+            redisTemplate.delete(rebuildKey);
+            if (!counts.isEmpty()) {
+                Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+                counts.forEach((count) -> tuples.add(ZSetOperations.TypedTuple.of(
+                        String.valueOf(count.getTargetId()), (double) count.getReportCount())));
+                redisTemplate.opsForZSet().add(rebuildKey, tuples);
+            }
+            redisTemplate.execute(SWAP_SCRIPT, List.of(countKey(target), rebuildKey));
+            log.debug("신고 수 집계 구성 완료: {} {}건", target, counts.size());
+        }
+    }
+
+    //  DB 의 신고 회원 목록을 SET 으로 올림
+    private void load(ReportTarget target, Long targetId) {
+        List<Long> memberIds = reportDAO.findReportMemberIds(target, targetId);
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(ttlSeconds));
+        args.add(SENTINEL);
+        memberIds.forEach((memberId) -> args.add(String.valueOf(memberId)));
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(target, targetId)), args.toArray());
+    }
+
+    //  저장하지 못한 신고의 자리를 되돌림
+    private void release(String key, String member) {
+        try {
+            redisTemplate.opsForSet().remove(key, member);
+        } catch (Exception e) {
+            log.warn("신고 자리 반납 실패: {} {}", key, member, e);
+        }
+    }
+
+    //  집계가 아직 구성되지 않았으면 다음 구성 때 DB 기준으로 채워진다
+    private void increaseCount(ReportTarget target, Long targetId) {
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(countKey(target)))) {
+                redisTemplate.opsForZSet().incrementScore(countKey(target), String.valueOf(targetId), 1);
+            }
+        } catch (Exception e) {
+            log.warn("신고 수 집계 반영 실패: {} {}", target, targetId, e);
+        }
+    }
+
+    private String key(ReportTarget target, Long targetId) {
+        return KEY_PREFIX + target.name().toLowerCase() + ":" + targetId;
+    }
+
+    private String countKey(ReportTarget target) {
+        return COUNT_KEY_PREFIX + target.name().toLowerCase();
+    }
+}
@@ -0,0 +1,25 @@
+package com.app.bluecotton.service;
+
+import java.util.List;
+
+public interface SearchIndexService {
+    //  전체 재색인
+    public void rebuild();
+
+    //  게시글 색인 갱신 / 제거 (트랜잭션 커밋 후 반영)
+    public void indexPost(Long postId);
+    public void removePost(Long postId);
+
+    //  솜 색인 갱신 / 제거 (트랜잭션 커밋 후 반영)
+    public void indexSom(Long somId);
+    public void removeSom(Long somId);
+
+    //  색인 준비 여부 (준비 전에는 DB LIKE 검색 사용)
+    public boolean isReady();
+
+    //  검색어를 포함하는 게시글 ID (ID 내림차순)
+    public List<Long> searchPostIds(String keyword, String somCategory);
+
+    //  검색어를 포함하는 솜 ID (ID 내림차순)
+    public List<Long> searchSomIds(String keyword, String somCategory, String somType);
+}
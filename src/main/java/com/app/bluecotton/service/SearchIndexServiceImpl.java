@@ -0,0 +1,221 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.SomSearchDTO;
+import com.app.bluecotton.domain.dto.post.PostSearchDTO;
+import com.app.bluecotton.repository.PostDAO;
+import com.app.bluecotton.repository.SomDAO;
+import com.app.bluecotton.util.NgramIndex;
+import com.app.bluecotton.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+//  게시글 / 솜 검색용 메모리 역색인
+//  기동 시 전체 색인 후 쓰기 경로에서 건별로 갱신하고, 닉네임 변경처럼 쓰기 경로 밖의 변경은 주기적 재색인으로 맞춘다
+//  색인은 서버마다 따로 있으므로 변경은 커밋 후 Redis pub/sub 으로 알리고, 받은 서버는 DB 에서 문서를 다시 읽어 반영한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexServiceImpl implements SearchIndexService, MessageListener {
+
+    public static final String CHANNEL = "search:index";
+
+    //  메시지 : 서버ID \t P(게시글) | S(솜) \t ID
+    private static final String SEPARATOR = "\t";
+    private static final String POST = "P";
+    private static final String SOM = "S";
+
+    private final PostDAO postDAO;
+    private final SomDAO somDAO;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final NgramIndex postIndex = new NgramIndex();
+    private final NgramIndex somIndex = new NgramIndex();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    //  재색인 중 바뀐 ID - DB 를 읽은 뒤 바뀐 문서가 교체로 사라지지 않도록 교체 후 다시 읽어 반영한다 (재색인 중이 아니면 null)
+    private volatile Set<Long> postChanges;
+    private volatile Set<Long> somChanges;
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Set<Long> changedPosts = ConcurrentHashMap.newKeySet();
+        Set<Long> changedSoms = ConcurrentHashMap.newKeySet();
+        postChanges = changedPosts;
+        somChanges = changedSoms;
+        try {
+            Map<Long, Map<String, String>> postAttributes = new HashMap<>();
+            Map<Long, String[]> postFields = new HashMap<>();
+            for (PostSearchDTO post : postDAO.findPostSearchDocuments(null)) {
+                postAttributes.put(post.getId(), postAttributes(post));
+                postFields.put(post.getId(), postFields(post));
+            }
+            postIndex.replaceAll(postAttributes, postFields);
+
+            Map<Long, Map<String, String>> somAttributes = new HashMap<>();
+            Map<Long, String[]> somFields = new HashMap<>();
+            for (SomSearchDTO som : somDAO.findSomSearchDocuments(null)) {
+                somAttributes.put(som.getId(), somAttributes(som));
+                somFields.put(som.getId(), somFields(som));
+            }
+            somIndex.replaceAll(somAttributes, somFields);
+
+            log.info("검색 색인 완료: 게시글 {}건, 솜 {}건", postFields.size(), somFields.size());
+        } finally {
+            postChanges = null;
+            somChanges = null;
+        }
+        //  교체 전에 반영된 변경은 교체로 사라졌을 수 있으므로 다시 읽는다 (교체 후 변경은 새 색인에 바로 반영됨)
+        changedPosts.forEach(this::reloadPost);
+        changedSoms.forEach(this::reloadSom);
+    }
+
+    @Override
+    public void indexPost(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            reloadPost(postId);
+            publish(POST, postId);
+        });
+    }
+
+    @Override
+    public void removePost(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            reloadPost(postId);
+            publish(POST, postId);
+        });
+    }
+
+    @Override
+    public void indexSom(Long somId) {
+        TransactionCallbacks.afterCommit(() -> {
+            reloadSom(somId);
+            publish(SOM, somId);
+        });
+    }
+
+    @Override
+    public void removeSom(Long somId) {
+        TransactionCallbacks.afterCommit(() -> {
+            reloadSom(somId);
+            publish(SOM, somId);
+        });
+    }
+
+    //  다른 서버의 색인 변경 - 커밋된 문서를 다시 읽어 반영
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            Long id = Long.valueOf(parts[2]);
+            if (POST.equals(parts[1])) {
+                reloadPost(id);
+            } else if (SOM.equals(parts[1])) {
+                reloadSom(id);
+            }
+        } catch (Exception e) {
+            log.warn("검색 색인 변경 반영 실패 (다음 재색인 때 반영): {}", parts[2], e);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return postIndex.isReady() && somIndex.isReady();
+    }
+
+    @Override
+    public List<Long> searchPostIds(String keyword, String somCategory) {
+        Map<String, String> filters = new HashMap<>();
+        if (somCategory != null && !somCategory.isBlank()) {
+            filters.put("somCategory", somCategory);
+        }
+        return postIndex.search(keyword, filters);
+    }
+
+    @Override
+    public List<Long> searchSomIds(String keyword, String somCategory, String somType) {
+        Map<String, String> filters = new HashMap<>();
+        if (somCategory != null && !somCategory.isBlank() && !somCategory.equals("all")) {
+            filters.put("somCategory", somCategory);
+        }
+        if (somType != null && !somType.isBlank() && !somType.equals("all")) {
+            filters.put("somType", somType);
+        }
+        return somIndex.search(keyword, filters);
+    }
+
+    //  재색인 중이면 먼저 기록해 두고 DB 의 현재 문서로 색인을 맞춘다 (없으면 삭제)
+    private void reloadPost(Long postId) {
+        Set<Long> changes = postChanges;
+        if (changes != null) {
+            changes.add(postId);
+        }
+        List<PostSearchDTO> documents = postDAO.findPostSearchDocuments(postId);
+        if (documents.isEmpty()) {
+            postIndex.remove(postId);
+            return;
+        }
+        PostSearchDTO post = documents.get(0);
+        postIndex.put(postId, postAttributes(post), postFields(post));
+    }
+
+    private void reloadSom(Long somId) {
+        Set<Long> changes = somChanges;
+        if (changes != null) {
+            changes.add(somId);
+        }
+        List<SomSearchDTO> documents = somDAO.findSomSearchDocuments(somId);
+        if (documents.isEmpty()) {
+            somIndex.remove(somId);
+            return;
+        }
+        SomSearchDTO som = documents.get(0);
+        somIndex.put(somId, somAttributes(som), somFields(som));
+    }
+
+    private void publish(String type, Long id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, String.join(SEPARATOR, nodeId, type, String.valueOf(id)));
+        } catch (Exception e) {
+            log.warn("검색 색인 변경 알림 실패 (다른 서버는 다음 재색인 때 반영): {} {}", type, id, e);
+        }
+    }
+
+    private Map<String, String> postAttributes(PostSearchDTO post) {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("somCategory", post.getSomCategory());
+        return attributes;
+    }
+
+    private String[] postFields(PostSearchDTO post) {
+        return new String[]{post.getPostTitle(), post.getPostContent(), post.getMemberNickname(), post.getSomTitle()};
+    }
+
+    private Map<String, String> somAttributes(SomSearchDTO som) {
+        Map<String, String> attributes = new HashMap<>();
+        attributes.put("somCategory", som.getSomCategory());
+        attributes.put("somType", som.getSomType());
+        return attributes;
+    }
+
+    private String[] somFields(SomSearchDTO som) {
+        return new String[]{som.getSomTitle(), som.getSomContent()};
+    }
+}
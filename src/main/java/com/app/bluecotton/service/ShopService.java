@@ -28,7 +28,7 @@ public interface ShopService {
     ProductReviewStatsResponseDTO getProductReviewStats(Long id);
 
     // 찜 하기 토글
-    public void toggleLike(Long memberId, Long productId);
+    public LikeResultDTO toggleLike(Long memberId, Long productId);
 
     // 마이페이지(샵) 찜한 상품 조회
     List<ProductListResponseDTO> getLikedProducts(Long memberId);
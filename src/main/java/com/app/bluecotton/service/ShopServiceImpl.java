@@ -1,10 +1,14 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
 import com.app.bluecotton.domain.dto.*;
+import com.app.bluecotton.domain.vo.LikeTarget;
+import com.app.bluecotton.domain.vo.ReportTarget;
 import com.app.bluecotton.domain.vo.shop.ProductReviewReportVO;
 import com.app.bluecotton.exception.ShopException;
 import com.app.bluecotton.repository.ShopDAO;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +21,8 @@ import java.util.Map;
 public class ShopServiceImpl implements ShopService {
 
     private final ShopDAO shopDAO;
+    private final LikeService likeService;
+    private final ReportService reportService;
 
     @Override
     public List<ProductListResponseDTO> getProductByFilter(Map<String, Object> filterParams) {
@@ -35,6 +41,11 @@ public class ShopServiceImpl implements ShopService {
         List<String> subImages = shopDAO.findProductSubImages(id);
         productDetailResponseDTO.setProductSubImages(subImages);
 
+        // 찜 여부 / 수는 아직 DB에 반영되지 않은 변경이 있을 수 있어 Redis 값으로
+        LikeResultDTO like = likeService.getLikeState(LikeTarget.PRODUCT, id, memberId);
+        productDetailResponseDTO.setProductLikeCount((int) like.getLikeCount());
+        productDetailResponseDTO.setProductIsLiked(like.isLiked() ? 1 : 0);
+
         return productDetailResponseDTO;
 
     }
@@ -43,13 +54,20 @@ public class ShopServiceImpl implements ShopService {
 
     @Override
     public ProductDetailResponseDTO getProductDetailLike(Long productId, Long memberId) {
-        toggleLike(memberId, productId);
-        return shopDAO.findProductDetailHeaderLike(productId, memberId);
+        LikeResultDTO like = toggleLike(memberId, productId);
+        ProductDetailResponseDTO productDetailResponseDTO = shopDAO.findProductDetailHeaderLike(productId, memberId);
+        if (productDetailResponseDTO != null) {
+            productDetailResponseDTO.setProductLikeCount((int) like.getLikeCount());
+            productDetailResponseDTO.setProductIsLiked(like.isLiked() ? 1 : 0);
+        }
+        return productDetailResponseDTO;
     }
 
 
 
+    // 상품 상세 정보는 관리자 수정/삭제 때만 바뀌므로 캐시 (로컬 → Redis)
     @Override
+    @Cacheable(cacheNames = CacheConfig.PRODUCT_DETAIL_CACHE, key = "#id", unless = "#result == null")
     public ProductInfoDetailResponseDTO getProductDetailInfo(Long id) {
         return shopDAO.findProductDetailInfo(id);
     }
@@ -66,22 +84,15 @@ public class ShopServiceImpl implements ShopService {
 
     // 찜하기 토글
     @Override
-    public void toggleLike(Long memberId, Long productId) {
+    public LikeResultDTO toggleLike(Long memberId, Long productId) {
 
         if (memberId == null || productId == null) {
             throw new ShopException("회원 정보 또는 상품 정보가 올바르지 않습니다.");
         }
 
         try {
-            Integer count = shopDAO.findLikeCount(memberId, productId);
-
-            if (count != null && count > 0) {
-                // 찜 삭제
-                shopDAO.deleteLikedProduct(memberId, productId);
-            } else {
-                // 찜 추가
-                shopDAO.insertMyLikedProduct(memberId, productId);
-            }
+            // Redis 에서 원자적으로 토글, TBL_PRODUCT_LIKE 는 LikeFlushScheduler 가 반영
+            return likeService.toggle(LikeTarget.PRODUCT, productId, memberId);
         } catch (Exception e) {
             throw new ShopException("찜");
         }
@@ -201,7 +212,7 @@ public class ShopServiceImpl implements ShopService {
     // 리뷰 신고 중복 체크만 따로 쓰고 싶을 때
     @Override
     public void checkProductReviewReportExists(Long productReviewId, Long memberId) {
-        boolean exists = shopDAO.checkProductReviewReportExists(productReviewId, memberId);
+        boolean exists = reportService.isReported(ReportTarget.PRODUCT_REVIEW, productReviewId, memberId);
         if (exists) {
             throw new ShopException("이미 이 리뷰를 신고했습니다.");
         }
@@ -211,14 +222,15 @@ public class ShopServiceImpl implements ShopService {
     @Override
     public void reportProductReview(ProductReviewReportVO productReviewReportVO) {
 
-        // 1) 중복 신고 체크
-        checkProductReviewReportExists(
+        // 중복 체크와 저장을 한 번에 (Redis 신고 SET + MERGE)
+        boolean reported = reportService.report(ReportTarget.PRODUCT_REVIEW,
                 productReviewReportVO.getProductReviewId(),
-                productReviewReportVO.getMemberId()
+                productReviewReportVO.getMemberId(),
+                () -> shopDAO.reportProductReview(productReviewReportVO)
         );
-
-        // 2) 신고 저장
-        shopDAO.reportProductReview(productReviewReportVO);
+        if (!reported) {
+            throw new ShopException("이미 이 리뷰를 신고했습니다.");
+        }
     }
 
 
@@ -1,9 +1,12 @@
 package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
-import jakarta.servlet.http.HttpSession;
 
 public interface SmsService {
 
-    public ApiResponseDTO sendAuthentificationCodeByEmail(String toEmail, HttpSession session);
+    //  인증코드를 발급해 이메일 발송 대기열에 넣는다
+    public ApiResponseDTO sendAuthentificationCodeByEmail(String toEmail);
+
+    //  이메일로 받은 인증코드 확인
+    public boolean verifyAuthentificationCode(String toEmail, String authentificationCode);
 }
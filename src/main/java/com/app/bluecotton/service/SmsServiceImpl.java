@@ -1,8 +1,7 @@
 package com.app.bluecotton.service;
 
 import com.app.bluecotton.domain.dto.ApiResponseDTO;
-import com.app.bluecotton.util.SmsUtil;
-import jakarta.servlet.http.HttpSession;
+import com.app.bluecotton.domain.dto.MailMessageDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,14 +9,24 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SmsServiceImpl implements SmsService {
 
-    private final SmsUtil smsUtil;
+    private final VerificationCodeService verificationCodeService;
+    private final MailOutboxService mailOutboxService;
 
     @Override
-    public ApiResponseDTO sendAuthentificationCodeByEmail(String toEmail, HttpSession session) {
-        // 세션에 랜덤 코드를 생성해서 저장
-        String AuthentificationCode = smsUtil.saveAuthentificationCode(session);
-        // 이메일 전송
-        smsUtil.sendEmail(toEmail, AuthentificationCode);
+    public ApiResponseDTO sendAuthentificationCodeByEmail(String toEmail) {
+        // Redis에 랜덤 코드를 생성해서 저장
+        String authentificationCode = verificationCodeService.issue(toEmail);
+        // 이메일 발송 대기열에 추가 (발송은 스케줄러가)
+        mailOutboxService.enqueue(MailMessageDTO.of(
+                toEmail,
+                "[blue cotton] 인증코드 발송 이메일입니다.",
+                "[blue cotton]\n 아래의 인증코드를 입력해주세요\n" + authentificationCode
+        ));
         return ApiResponseDTO.of("메세지 전송 성공");
     }
+
+    @Override
+    public boolean verifyAuthentificationCode(String toEmail, String authentificationCode) {
+        return verificationCodeService.verify(toEmail, authentificationCode);
+    }
 }
@@ -0,0 +1,163 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.LikeResultDTO;
+import com.app.bluecotton.domain.dto.MemberResponseDTO;
+import com.app.bluecotton.domain.dto.MemberSomLeaderResponseDTO;
+import com.app.bluecotton.domain.dto.MyPageSomReviewDTO;
+import com.app.bluecotton.domain.dto.SomJoinResponseDTO;
+import com.app.bluecotton.domain.dto.SomResponseDTO;
+import com.app.bluecotton.domain.vo.LikeTarget;
+import com.app.bluecotton.domain.vo.member.MemberProfileVO;
+import com.app.bluecotton.domain.vo.som.SomImageVO;
+import com.app.bluecotton.exception.SomException;
+import com.app.bluecotton.repository.SomDAO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+//  솜 상세 조회 - 서로 독립적인 조회를 병렬로 실행하고 조회별 소요 시간을 기록한다
+@Slf4j
+@Component
+public class SomDetailLoader {
+
+    private final SomDAO somDAO;
+    private final SomImageService somImageService;
+    private final MemberService memberService;
+    private final MyPageSomService myPageSomService;
+    private final LikeService likeService;
+    private final Executor somReadExecutor;
+    private final long timeoutMillis;
+
+    private final Map<String, BranchLatency> latencies = new ConcurrentHashMap<>();
+
+    public SomDetailLoader(
+            SomDAO somDAO,
+            SomImageService somImageService,
+            MemberService memberService,
+            MyPageSomService myPageSomService,
+            LikeService likeService,
+            @Qualifier("somReadExecutor") Executor somReadExecutor,
+            @Value("${som.read.timeout-ms:3000}") long timeoutMillis
+    ) {
+        this.somDAO = somDAO;
+        this.somImageService = somImageService;
+        this.memberService = memberService;
+        this.myPageSomService = myPageSomService;
+        this.likeService = likeService;
+        this.somReadExecutor = somReadExecutor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public SomResponseDTO load(Long somId, String memberEmail) {
+        //  솜 ID만 있으면 되는 조회
+        CompletableFuture<SomResponseDTO> somFuture = branch("som",
+                () -> somDAO.findById(somId).orElseThrow(() -> new SomException("솜을 불러오지 못했습니다")));
+        CompletableFuture<List<SomImageVO>> somImagesFuture = branch("somImages", () -> somImageService.selectImagesBySomId(somId));
+        CompletableFuture<List<SomJoinResponseDTO>> somJoinFuture = branch("somJoinList", () -> somDAO.readSomJoinList(somId));
+        CompletableFuture<Long> currentMemberIdFuture = memberEmail.isEmpty()
+                ? CompletableFuture.completedFuture(0L)
+                : branch("currentMemberId", () -> memberService.getMemberIdByMemberEmail(memberEmail));
+
+        //  현재 회원 ID가 필요한 조회
+        //  좋아요 여부 / 수는 아직 DB에 반영되지 않은 변경이 있을 수 있어 Redis 값으로
+        CompletableFuture<LikeResultDTO> somLikeFuture = currentMemberIdFuture.thenCompose((currentMemberId) -> branch("somLike",
+                () -> likeService.getLikeState(LikeTarget.SOM, somId, currentMemberId)));
+
+        //  솜장 ID가 필요한 조회
+        SomResponseDTO somResponseDTO = await(somFuture);
+        Long somLeaderId = somResponseDTO.getMemberId();
+        CompletableFuture<MemberResponseDTO> somLeaderFuture = branch("somLeader", () -> memberService.getMemberById(somLeaderId));
+        CompletableFuture<MemberProfileVO> somLeaderProfileFuture = branch("somLeaderProfile", () -> memberService.getMemberProfileImage(somLeaderId));
+        CompletableFuture<List<MyPageSomReviewDTO>> somReviewFuture = branch("somLeaderReviews", () -> myPageSomService.readSomReview(somLeaderId));
+
+        List<SomImageVO> somImages = await(somImagesFuture);
+        if(somImages.isEmpty()){
+            somImages.add(SomImageVO.ofDefault(somId));
+        }
+
+        MemberProfileVO memberProfileVO = await(somLeaderProfileFuture);
+        MemberSomLeaderResponseDTO memberSomLeaderResponseDTO = new MemberSomLeaderResponseDTO(await(somLeaderFuture));
+        memberSomLeaderResponseDTO.setMemberPictureName(memberProfileVO.getMemberProfileName());
+        memberSomLeaderResponseDTO.setMemberPicturePath(memberProfileVO.getMemberProfilePath());
+        memberSomLeaderResponseDTO.setSomReviewList(await(somReviewFuture));
+
+        LikeResultDTO somLike = await(somLikeFuture);
+        somResponseDTO.setIsSomLike(somLike.isLiked());
+        somResponseDTO.setSomLikeCount((int) somLike.getLikeCount());
+        somResponseDTO.setMemberSomLeader(memberSomLeaderResponseDTO);
+        somResponseDTO.setSomJoinList(await(somJoinFuture));
+        somResponseDTO.setSomImageList(somImages);
+
+        return somResponseDTO;
+    }
+
+    //  조회별 호출 수, 평균/최대 소요 시간(ms)
+    public Map<String, Map<String, Object>> getLatencyStats() {
+        Map<String, Map<String, Object>> stats = new LinkedHashMap<>();
+        latencies.forEach((name, latency) -> stats.put(name, latency.toMap()));
+        return stats;
+    }
+
+    private <T> CompletableFuture<T> branch(String name, Supplier<T> supplier) {
+        BranchLatency latency = latencies.computeIfAbsent(name, (key) -> new BranchLatency());
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return supplier.get();
+            } finally {
+                latency.record(System.nanoTime() - start);
+            }
+        }, somReadExecutor).orTimeout(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof TimeoutException){
+                log.warn("솜 상세 조회 시간 초과: {}ms", timeoutMillis);
+                throw new SomException("솜을 불러오는 시간이 초과되었습니다");
+            }
+            if(cause instanceof RuntimeException runtimeException){
+                throw runtimeException;
+            }
+            throw new SomException("솜을 불러오지 못했습니다");
+        }
+    }
+
+    private static class BranchLatency {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private Map<String, Object> toMap() {
+            long calls = count.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", calls);
+            map.put("avgMillis", calls == 0 ? 0.0 : totalNanos.sum() / (double) calls / 1_000_000);
+            map.put("maxMillis", maxNanos.get() / 1_000_000.0);
+            return map;
+        }
+    }
+}
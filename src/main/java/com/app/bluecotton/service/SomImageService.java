@@ -14,4 +14,8 @@ public interface SomImageService {
 
     public List<SomImageVO> selectImagesBySomId(Long somId);
 
+    public List<SomImageVO> selectAllSomImages();
+
+    public List<SomImageVO> selectImagesBySomIds(List<Long> somIds);
+
 }
@@ -28,4 +28,14 @@ public class SomImageServiceImpl implements SomImageService {
     public List<SomImageVO> selectImagesBySomId(Long somId) {
         return somImageDAO.selectImagesBySomId(somId);
     }
+
+    @Override
+    public List<SomImageVO> selectAllSomImages() {
+        return somImageDAO.selectAllSomImages();
+    }
+
+    @Override
+    public List<SomImageVO> selectImagesBySomIds(List<Long> somIds) {
+        return somImageDAO.selectImagesBySomIds(somIds);
+    }
 }
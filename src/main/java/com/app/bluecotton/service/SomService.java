@@ -22,9 +22,15 @@ public interface SomService {
 
     public List<SomResponseDTO> findByCategoryAndType(Map<String, Object> map);
 
+    //  솜 목록 조회 (전체 페이지 수 대신 다음 페이지 여부) - somList, hasNext
+    public Map<String, Object> findByCategoryAndTypeWithHasNext(Map<String, Object> map);
+
     //  솜 전체 조회
     public List<SomResponseDTO> findAllSom();
 
+    //  솜 전체 페이지 조회
+    public List<SomResponseDTO> findAllSom(int page, int size);
+
     //  솜 전체 주소 조회
     public List<String> findAllAddress();
 
@@ -1,23 +1,37 @@
 package com.app.bluecotton.service;
 
+import com.app.bluecotton.config.CacheConfig;
+import com.app.bluecotton.domain.dto.LikeResultDTO;
 import com.app.bluecotton.domain.dto.MemberResponseDTO;
 import com.app.bluecotton.domain.dto.MemberSomLeaderResponseDTO;
+import com.app.bluecotton.domain.dto.MyPageSomReviewDTO;
 import com.app.bluecotton.domain.dto.SomJoinResponseDTO;
 import com.app.bluecotton.domain.dto.SomResponseDTO;
+import com.app.bluecotton.domain.vo.LikeTarget;
 import com.app.bluecotton.domain.vo.member.MemberProfileVO;
 import com.app.bluecotton.domain.vo.som.SomImageVO;
 import com.app.bluecotton.domain.vo.som.SomJoinVO;
 import com.app.bluecotton.domain.vo.som.SomLikeVO;
 import com.app.bluecotton.domain.vo.som.SomVO;
+import com.app.bluecotton.exception.MemberException;
 import com.app.bluecotton.exception.SomException;
 import com.app.bluecotton.repository.SomDAO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -25,108 +39,225 @@ import java.util.Map;
 @Transactional(rollbackFor = Exception.class)
 public class SomServiceImpl implements SomService {
 
+    private static final int MAX_SOM_PAGE_SIZE = 100;
+    private static final int SOM_LIST_PAGE_SIZE = 9;
+
     private final SomDAO somDAO;
     private final SomImageService somImageService;
     private final MemberService memberService;
     private final ChatService chatService;
     private final ChatMemberService chatMemberService;
     private final MyPageSomService myPageSomService;
+    private final SomDetailLoader somDetailLoader;
+    private final SearchIndexService searchIndexService;
+    private final LikeService likeService;
 
 
     //  솜 등록
     @Override
+    @CacheEvict(cacheNames = CacheConfig.SOM_MAX_PAGE_CACHE, allEntries = true)
     public void registerSom(SomVO somVO) {
         somDAO.save(somVO);
+        searchIndexService.indexSom(somVO.getId());
     }
 
+    //  필터 조합별로 짧게 캐시, 솜 등록/삭제 시 비움
     @Override
+    @Cacheable(
+            cacheNames = CacheConfig.SOM_MAX_PAGE_CACHE,
+            key = "#map['somCategory'] + ':' + #map['somType'] + ':' + #map['somKeyword']"
+    )
     public Integer selectSomMaxPage(Map<String, Object> map) {
+        if (isIndexedSearch(map)) {
+            int count = searchSomIds(map).size();
+            return (count + SOM_LIST_PAGE_SIZE - 1) / SOM_LIST_PAGE_SIZE;
+        }
         return somDAO.selectSomMaxPage(map);
     }
 
     //  솜 상세 조회
+    //  조회만 하고 병렬 조회가 각자 연결을 쓰므로, 요청 스레드가 트랜잭션 연결을 잡고 기다리지 않게 트랜잭션 없이
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SomResponseDTO findById(Long somId, String memberEmail) {
-        SomResponseDTO somResponseDTO = somDAO.findById(somId).orElseThrow(() -> new SomException("솜을 불러오지 못했습니다"));
-        List<SomImageVO> somImages = somImageService.selectImagesBySomId(somId);
-        Long currentMemberId = !memberEmail.isEmpty() ? memberService.getMemberIdByMemberEmail(memberEmail) : 0;
-        Long somLeaderId = somResponseDTO.getMemberId();
-        SomLikeVO somLikeVO = new SomLikeVO();
-        MemberResponseDTO memberResponseDTO = memberService.getMemberById(somLeaderId);
-        MemberSomLeaderResponseDTO memberSomLeaderResponseDTO = new MemberSomLeaderResponseDTO(memberResponseDTO);
-        MemberProfileVO memberProfileVO = memberService.getMemberProfileImage(somLeaderId);
-        somLikeVO.setSomId(somId);
-        somLikeVO.setMemberId(currentMemberId);
-        if(somImages.isEmpty()){
-            SomImageVO somImageVO = new SomImageVO();
-            somImageVO.setSomImagePath("https://image-server.ideaflow.co.kr/uploads/som/2025/11/10/default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png");
-            somImageVO.setSomId(somId);
-            somImageVO.setSomImageName("default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png");
-            somImages.add(somImageVO);
-        }
-        memberSomLeaderResponseDTO.setMemberPictureName(memberProfileVO.getMemberProfileName());
-        memberSomLeaderResponseDTO.setMemberPicturePath(memberProfileVO.getMemberProfilePath());
-        memberSomLeaderResponseDTO.setSomReviewList(myPageSomService.readSomReview(somResponseDTO.getMemberId()));
-        somResponseDTO.setIsSomLike(somDAO.selectIsSomLike(somLikeVO));
-        somResponseDTO.setMemberSomLeader(memberSomLeaderResponseDTO);
-        somResponseDTO.setSomJoinList(somDAO.readSomJoinList(somId));
-        somResponseDTO.setSomImageList(somImages);
-
-        return somResponseDTO;
+        return somDetailLoader.load(somId, memberEmail);
     }
 
     //  솜 전체 조회
     @Override
     public List<SomResponseDTO> findAllSom() {
-        List<SomResponseDTO> somList = somDAO.findAllSom().stream().map((som) -> {
-            List<SomImageVO> somImages = somImageService.selectImagesBySomId(som.getId());
-            if(somImages.isEmpty()){
-                SomImageVO somImageVO = new SomImageVO();
-                somImageVO.setSomImagePath("https://image-server.ideaflow.co.kr/uploads/som/2025/11/10/default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png");
-                somImageVO.setSomId(som.getId());
-                somImageVO.setSomImageName("default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png");
-                somImages.add(somImageVO);
-            }
-            som.setSomCount(somDAO.readSomJoinList(som.getId()).size());
-            som.setSomJoinList(somDAO.readSomJoinList(som.getId()));
-            som.setSomImageList(somImages);
-            return som;
-        }).toList();
+        List<SomResponseDTO> somList = somDAO.findAllSom();
+        if(somList.isEmpty()){
+            return somList;
+        }
+
+        //  솜 수와 관계없이 참여자, 이미지를 각각 한 번에 조회한다 (SOM_COUNT는 selectAll에서 계산)
+        assembleSomCatalog(somList, somDAO.readAllSomJoinList(), somImageService.selectAllSomImages());
+
+        return somList;
+    }
+
+    //  솜 전체 페이지 조회
+    @Override
+    public List<SomResponseDTO> findAllSom(int page, int size) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("page", Math.max(page, 1));
+        params.put("size", Math.min(Math.max(size, 1), MAX_SOM_PAGE_SIZE));
+
+        List<SomResponseDTO> somList = somDAO.findAllSomByPage(params);
+        if(somList.isEmpty()){
+            return somList;
+        }
+
+        List<Long> somIds = somList.stream().map(SomResponseDTO::getId).toList();
+        assembleSomCatalog(somList, somDAO.readSomJoinListBySomIds(somIds), somImageService.selectImagesBySomIds(somIds));
 
         return somList;
     }
 
+    //  조회한 참여자, 이미지를 솜 ID로 묶어 솜 목록에 채운다
+    private void assembleSomCatalog(List<SomResponseDTO> somList, List<SomJoinResponseDTO> somJoins, List<SomImageVO> somImages) {
+        Map<Long, List<SomJoinResponseDTO>> somJoinMap = somJoins.stream()
+                .collect(Collectors.groupingBy(SomJoinResponseDTO::getSomId));
+        Map<Long, List<SomImageVO>> somImageMap = somImages.stream()
+                .collect(Collectors.groupingBy(SomImageVO::getSomId));
+
+        somList.forEach((som) -> {
+            List<SomImageVO> images = somImageMap.getOrDefault(som.getId(), new ArrayList<>());
+            if(images.isEmpty()){
+                images.add(SomImageVO.ofDefault(som.getId()));
+            }
+            som.setSomJoinList(somJoinMap.getOrDefault(som.getId(), new ArrayList<>()));
+            som.setSomImageList(images);
+        });
+    }
+
     @Override
     public List<SomResponseDTO> findByCategoryAndType(Map<String, Object> map){
-        List<SomResponseDTO> somList = somDAO.findSomListByCategoryAndType(map).stream().map((som) -> {
-            List<SomImageVO> somImages = somImageService.selectImagesBySomId(som.getId());
-            Long currentMemberId = !String.valueOf(map.get("memberEmail")).isEmpty() ? memberService.getMemberIdByMemberEmail(String.valueOf(map.get("memberEmail"))) : 0;
-            Long somLeaderId = som.getMemberId();
-            SomLikeVO somLikeVO = new SomLikeVO();
-            MemberResponseDTO memberResponseDTO = memberService.getMemberById(somLeaderId);
-            MemberSomLeaderResponseDTO memberSomLeaderResponseDTO = new MemberSomLeaderResponseDTO(memberResponseDTO);
-            MemberProfileVO memberProfileVO = memberService.getMemberProfileImage(somLeaderId);
-            somLikeVO.setSomId(som.getId());
-            somLikeVO.setMemberId(currentMemberId);
-            if(somImages.isEmpty()){
-                SomImageVO somImageVO = new SomImageVO();
-                somImageVO.setSomImagePath("https://image-server.ideaflow.co.kr/uploads/som/2025/11/10/default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png");
-                somImageVO.setSomId(som.getId());
-                somImageVO.setSomImageName("default_post_25987fce-7bfb-43bb-8984-f4bae4daacb5.png");
-                somImages.add(somImageVO);
+        List<SomResponseDTO> somList = loadSomList(map, 0);
+        String memberEmail = String.valueOf(map.get("memberEmail"));
+        Long currentMemberId = !memberEmail.isEmpty() ? memberService.getMemberIdByMemberEmail(memberEmail) : 0;
+
+        enrichSomList(somList, currentMemberId);
+
+        return somList;
+    }
+
+    //  솜 목록 조회 (전체 페이지 수 대신 다음 페이지 여부)
+    @Override
+    public Map<String, Object> findByCategoryAndTypeWithHasNext(Map<String, Object> map) {
+        List<SomResponseDTO> somList = loadSomList(map, 1);
+        boolean hasNext = somList.size() > SOM_LIST_PAGE_SIZE;
+        if (hasNext) {
+            somList = new ArrayList<>(somList.subList(0, SOM_LIST_PAGE_SIZE));
+        }
+        String memberEmail = String.valueOf(map.get("memberEmail"));
+        Long currentMemberId = !memberEmail.isEmpty() ? memberService.getMemberIdByMemberEmail(memberEmail) : 0;
+
+        enrichSomList(somList, currentMemberId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("somList", somList);
+        result.put("hasNext", hasNext);
+        return result;
+    }
+
+    //  lookahead : 다음 페이지 여부 확인용으로 더 읽을 행 수
+    private List<SomResponseDTO> loadSomList(Map<String, Object> map, int lookahead) {
+        List<SomResponseDTO> somList;
+        if (isIndexedSearch(map)) {
+            //  검색 색인에서 찾은 ID 중 한 페이지 분량만 조회 (ID 내림차순 = 목록 정렬 순서)
+            List<Long> somIds = searchSomIds(map);
+            int page = Integer.parseInt(String.valueOf(map.get("page")));
+            int from = (page - 1) * SOM_LIST_PAGE_SIZE;
+            if (from < 0 || from >= somIds.size()) {
+                return new ArrayList<>();
             }
+            Map<String, Object> pageParams = new HashMap<>(map);
+            pageParams.put("somIds", somIds.subList(from, Math.min(from + SOM_LIST_PAGE_SIZE + lookahead, somIds.size())));
+            somList = somDAO.findSomListByCategoryAndType(pageParams);
+        } else if (lookahead > 0) {
+            Map<String, Object> pageParams = new HashMap<>(map);
+            pageParams.put("lookahead", lookahead);
+            somList = somDAO.findSomListByCategoryAndType(pageParams);
+        } else {
+            somList = somDAO.findSomListByCategoryAndType(map);
+        }
+        return somList;
+    }
+
+    //  검색어가 있고 검색 색인이 준비됐으면 색인으로 검색
+    private boolean isIndexedSearch(Map<String, Object> map) {
+        Object somKeyword = map.get("somKeyword");
+        return somKeyword != null
+                && !String.valueOf(somKeyword).isEmpty()
+                && !"all".equals(somKeyword)
+                && searchIndexService.isReady();
+    }
+
+    private List<Long> searchSomIds(Map<String, Object> map) {
+        return searchIndexService.searchSomIds(
+                String.valueOf(map.get("somKeyword")),
+                map.get("somCategory") == null ? null : String.valueOf(map.get("somCategory")),
+                map.get("somType") == null ? null : String.valueOf(map.get("somType"))
+        );
+    }
+
+    //  솜 목록 일괄 조립 (행마다 조회하지 않고 ID를 모아 테이블당 한 번씩 조회)
+    private void enrichSomList(List<SomResponseDTO> somList, Long currentMemberId) {
+        if(somList.isEmpty()){
+            return;
+        }
+
+        List<Long> somIds = somList.stream().map(SomResponseDTO::getId).toList();
+        List<Long> somLeaderIds = somList.stream().map(SomResponseDTO::getMemberId).distinct().toList();
+
+        Map<Long, List<SomImageVO>> somImageMap = somImageService.selectImagesBySomIds(somIds).stream()
+                .collect(Collectors.groupingBy(SomImageVO::getSomId));
+        Map<Long, List<SomJoinResponseDTO>> somJoinMap = somDAO.readSomJoinListBySomIds(somIds).stream()
+                .collect(Collectors.groupingBy(SomJoinResponseDTO::getSomId));
+        Set<Long> likedSomIds = currentMemberId == null || currentMemberId == 0
+                ? Set.of()
+                : new HashSet<>(somDAO.selectLikedSomIds(currentMemberId, somIds));
+        Map<Long, MemberResponseDTO> somLeaderMap = memberService.getMembersByIds(somLeaderIds).stream()
+                .collect(Collectors.toMap(MemberResponseDTO::getId, Function.identity()));
+        Map<Long, MemberProfileVO> memberProfileMap = memberService.getMemberProfileImages(somLeaderIds).stream()
+                .collect(Collectors.toMap(MemberProfileVO::getMemberId, Function.identity(), (first, second) -> first));
+        Map<Long, List<MyPageSomReviewDTO>> somReviewMap = myPageSomService.readSomReviewByMemberIds(somLeaderIds).stream()
+                .collect(Collectors.groupingBy(MyPageSomReviewDTO::getMemberId));
+        //  아직 DB에 반영되지 않은 좋아요 변경은 Redis 값으로 (Redis 에 올라온 솜만)
+        Map<Long, LikeResultDTO> somLikeMap = likeService.getLoadedLikeStates(
+                LikeTarget.SOM, somIds, currentMemberId == null || currentMemberId == 0 ? null : currentMemberId);
+
+        somList.forEach((som) -> {
+            MemberResponseDTO memberResponseDTO = somLeaderMap.get(som.getMemberId());
+            if(memberResponseDTO == null){
+                throw new MemberException("회원 조회 실패");
+            }
+            MemberProfileVO memberProfileVO = memberProfileMap.get(som.getMemberId());
+            if(memberProfileVO == null){
+                throw new MemberException("프로필 이미지 조회 실패");
+            }
+            MemberSomLeaderResponseDTO memberSomLeaderResponseDTO = new MemberSomLeaderResponseDTO(memberResponseDTO);
             memberSomLeaderResponseDTO.setMemberPictureName(memberProfileVO.getMemberProfileName());
             memberSomLeaderResponseDTO.setMemberPicturePath(memberProfileVO.getMemberProfilePath());
-            memberSomLeaderResponseDTO.setSomReviewList(myPageSomService.readSomReview(som.getMemberId()));
+            memberSomLeaderResponseDTO.setSomReviewList(somReviewMap.getOrDefault(som.getMemberId(), new ArrayList<>()));
+
+            List<SomImageVO> somImages = somImageMap.getOrDefault(som.getId(), new ArrayList<>());
+            if(somImages.isEmpty()){
+                somImages.add(SomImageVO.ofDefault(som.getId()));
+            }
+
             som.setMemberSomLeader(memberSomLeaderResponseDTO);
-            som.setIsSomLike(somDAO.selectIsSomLike(somLikeVO));
-            som.setSomJoinList(somDAO.readSomJoinList(som.getId()));
+            som.setIsSomLike(likedSomIds.contains(som.getId()));
+            LikeResultDTO somLike = somLikeMap.get(som.getId());
+            if(somLike != null){
+                som.setIsSomLike(somLike.isLiked());
+                som.setSomLikeCount((int) somLike.getLikeCount());
+            }
+            som.setSomJoinList(somJoinMap.getOrDefault(som.getId(), new ArrayList<>()));
             som.setSomImageList(somImages);
-            log.info("SomResponseDTO : {}", som);
-            return som;
-        }).toList();
-
-        return somList;
+        });
     }
 
     @Override
@@ -142,8 +273,10 @@ public class SomServiceImpl implements SomService {
 
     //  솜 삭제
     @Override
+    @CacheEvict(cacheNames = CacheConfig.SOM_MAX_PAGE_CACHE, allEntries = true)
     public void withdraw(Long somId) {
         somDAO.withdraw(somId);
+        searchIndexService.removeSom(somId);
     }
 
     @Override
@@ -182,21 +315,22 @@ public class SomServiceImpl implements SomService {
 
     @Override
     public void insertSomLike(SomLikeVO somLikeVO){
-        somDAO.insertSomLike(somLikeVO);
+        //  Redis 좋아요 SET 에 반영, TBL_SOM_LIKE 는 LikeFlushScheduler 가 반영
+        likeService.like(LikeTarget.SOM, somLikeVO.getSomId(), somLikeVO.getMemberId());
     }
 
     @Override
     public Integer selectSomLikeCount(Long somId){
-        return somDAO.selectSomLikeCount(somId);
+        return (int) likeService.getLikeState(LikeTarget.SOM, somId, null).getLikeCount();
     }
 
     @Override
     public Boolean selectIsSomLike(SomLikeVO somLikeVO) {
-        return somDAO.selectIsSomLike(somLikeVO);
+        return likeService.getLikeState(LikeTarget.SOM, somLikeVO.getSomId(), somLikeVO.getMemberId()).isLiked();
     }
 
     @Override
     public void deleteSomLike(SomLikeVO somLikeVO) {
-        somDAO.deleteSomLike(somLikeVO);
+        likeService.unlike(LikeTarget.SOM, somLikeVO.getSomId(), somLikeVO.getMemberId());
     }
 }
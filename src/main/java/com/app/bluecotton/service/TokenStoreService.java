@@ -0,0 +1,20 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.vo.RefreshTokenStatus;
+
+public interface TokenStoreService {
+    //  회원의 Refresh 토큰 저장 (기존 토큰은 덮어쓴다)
+    public boolean saveRefreshToken(Long memberId, String refreshToken);
+
+    //  블랙리스트 여부와 저장된 토큰 일치 여부를 한 번에 확인
+    public RefreshTokenStatus checkRefreshToken(Long memberId, String refreshToken);
+
+    //  Refresh 토큰을 블랙리스트에 추가
+    public boolean blacklist(Long memberId, String refreshToken);
+
+    //  저장된 Refresh 토큰이 주어진 토큰과 다르면 삭제
+    public boolean revokeIfDifferent(Long memberId, String refreshToken);
+
+    //  회원의 Refresh 토큰 / 블랙리스트 삭제 (탈퇴)
+    public void removeMember(Long memberId);
+}
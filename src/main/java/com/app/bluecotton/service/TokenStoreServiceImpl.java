@@ -0,0 +1,127 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.vo.RefreshTokenStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+//  Refresh 토큰 저장소
+//  회원 ID 별 Refresh 키(문자열)와 블랙리스트 키(SET)를 Lua 한 번으로 확인 / 변경한다
+//  회원 ID 는 토큰 클레임에서 꺼내므로 재발급에 DB 조회가 필요 없다
+@Slf4j
+@Service
+public class TokenStoreServiceImpl implements TokenStoreService {
+
+    private static final Duration TOKEN_TTL = Duration.ofDays(7);
+
+    //  KEYS[1] 블랙리스트 SET, KEYS[2] Refresh 키 / ARGV[1] Refresh 토큰
+    //  0 정상, 1 블랙리스트, 2 저장된 토큰 없음 / 불일치
+    private static final RedisScript<Long> CHECK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return 1 end "
+                    + "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 2 end "
+                    + "return 0",
+            Long.class
+    );
+
+    //  KEYS[1] 블랙리스트 SET / ARGV[1] Refresh 토큰, ARGV[2] TTL(초)
+    private static final RedisScript<Long> BLACKLIST_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SADD', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] Refresh 키 / ARGV[1] Refresh 토큰
+    //  저장된 토큰이 있고 주어진 토큰과 다를 때만 삭제 (1 삭제, 0 그대로)
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>(
+            "local stored = redis.call('GET', KEYS[1]) "
+                    + "if stored and stored ~= ARGV[1] then redis.call('DEL', KEYS[1]) return 1 end "
+                    + "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String blacklistPrefix;
+    private final String refreshPrefix;
+
+    public TokenStoreServiceImpl(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${jwt.token-blacklist-prefix}") String blacklistPrefix,
+            @Value("${jwt.refresh-blacklist-prefix}") String refreshPrefix
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.blacklistPrefix = blacklistPrefix;
+        this.refreshPrefix = refreshPrefix;
+    }
+
+    @Override
+    public boolean saveRefreshToken(Long memberId, String refreshToken) {
+        try {
+            redisTemplate.opsForValue().set(refreshPrefix + memberId, refreshToken, TOKEN_TTL);
+            return true;
+        } catch (Exception e) {
+            log.warn("Refresh 토큰 저장 실패: {}", memberId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public RefreshTokenStatus checkRefreshToken(Long memberId, String refreshToken) {
+        if (memberId == null || refreshToken == null) {
+            return RefreshTokenStatus.MISMATCH;
+        }
+        try {
+            Long result = redisTemplate.execute(CHECK_SCRIPT,
+                    List.of(blacklistPrefix + memberId, refreshPrefix + memberId), refreshToken);
+            if (result == null) {
+                return RefreshTokenStatus.MISMATCH;
+            }
+            if (result == 1L) {
+                return RefreshTokenStatus.BLACKLISTED;
+            }
+            return result == 0L ? RefreshTokenStatus.VALID : RefreshTokenStatus.MISMATCH;
+        } catch (Exception e) {
+            //  확인할 수 없으면 재발급하지 않는다
+            log.warn("Refresh 토큰 확인 실패: {}", memberId, e);
+            return RefreshTokenStatus.MISMATCH;
+        }
+    }
+
+    @Override
+    public boolean blacklist(Long memberId, String refreshToken) {
+        try {
+            redisTemplate.execute(BLACKLIST_SCRIPT, List.of(blacklistPrefix + memberId),
+                    refreshToken, String.valueOf(TOKEN_TTL.toSeconds()));
+            return true;
+        } catch (Exception e) {
+            log.warn("Refresh 토큰 블랙리스트 추가 실패: {}", memberId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public boolean revokeIfDifferent(Long memberId, String refreshToken) {
+        try {
+            Long result = redisTemplate.execute(REVOKE_SCRIPT, List.of(refreshPrefix + memberId), refreshToken);
+            return result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("Refresh 토큰 삭제 실패: {}", memberId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void removeMember(Long memberId) {
+        try {
+            redisTemplate.delete(List.of(refreshPrefix + memberId, blacklistPrefix + memberId));
+        } catch (Exception e) {
+            log.warn("Refresh 토큰 정리 실패: {}", memberId, e);
+        }
+    }
+}
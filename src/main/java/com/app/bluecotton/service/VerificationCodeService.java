@@ -0,0 +1,9 @@
+package com.app.bluecotton.service;
+
+public interface VerificationCodeService {
+    //  이메일 인증코드 발급 (기존 코드는 덮어쓴다)
+    public String issue(String email);
+
+    //  인증코드 확인 (맞으면 코드 삭제, 시도 횟수를 넘기면 코드 폐기)
+    public boolean verify(String email, String code);
+}
@@ -0,0 +1,75 @@
+package com.app.bluecotton.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+
+//  이메일 인증코드 - 세션 대신 Redis 해시(code, attempts)에 두어 어느 서버로 확인 요청이 와도 된다
+@Slf4j
+@Service
+public class VerificationCodeServiceImpl implements VerificationCodeService {
+
+    private static final String CODE_KEY_PREFIX = "auth:code:";
+
+    //  KEYS[1] 인증코드 해시 / ARGV[1] 인증코드, ARGV[2] TTL(초)
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    //  KEYS[1] 인증코드 해시 / ARGV[1] 입력한 코드, ARGV[2] 최대 시도 횟수
+    //  1 일치(코드 삭제), 0 불일치 / 없음, 시도 횟수를 넘기면 코드 삭제 후 0
+    private static final RedisScript<Long> VERIFY_SCRIPT = new DefaultRedisScript<>(
+            "local code = redis.call('HGET', KEYS[1], 'code') "
+                    + "if not code then return 0 end "
+                    + "local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) "
+                    + "if code == ARGV[1] then redis.call('DEL', KEYS[1]) return 1 end "
+                    + "if attempts >= tonumber(ARGV[2]) then redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long ttlSeconds;
+    private final int maxAttempts;
+
+    public VerificationCodeServiceImpl(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${auth.code.ttl-seconds:300}") long ttlSeconds,
+            @Value("${auth.code.max-attempts:5}") int maxAttempts
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = ttlSeconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public String issue(String email) {
+        String code = RandomStringUtils.randomAlphanumeric(8);
+        redisTemplate.execute(ISSUE_SCRIPT, List.of(key(email)), code, String.valueOf(ttlSeconds));
+        return code;
+    }
+
+    @Override
+    public boolean verify(String email, String code) {
+        if (email == null || code == null) {
+            return false;
+        }
+        Long result = redisTemplate.execute(VERIFY_SCRIPT, List.of(key(email)), code, String.valueOf(maxAttempts));
+        return result != null && result == 1L;
+    }
+
+    private String key(String email) {
+        return CODE_KEY_PREFIX + email.trim().toLowerCase(Locale.ROOT);
+    }
+}
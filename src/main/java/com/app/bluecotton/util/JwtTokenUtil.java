@@ -1,11 +1,21 @@
 package com.app.bluecotton.util;
 
 import com.app.bluecotton.exception.JwtTokenException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.io.Decoders;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
@@ -13,8 +23,27 @@ import java.util.Map;
 @Slf4j
 public class JwtTokenUtil {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    //  서명 키 / 파서는 한 번만 만든다 (JwtParser 는 스레드 안전)
+    //  jwt.secret 은 Base64 문자열 (기존 setSigningKey(String) 과 같은 키)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    //  검증을 통과한 토큰의 해시 → Claims (같은 토큰은 서명 검증 / JSON 파싱을 다시 하지 않는다)
+    //  만료는 꺼낼 때 Claims 의 만료 시간으로 다시 확인하고, 블랙리스트에 오른 토큰은 invalidate 로 뺀다
+    private final Cache<String, Claims> verifiedTokens;
+
+    public JwtTokenUtil(
+            @Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize,
+            @Value("${jwt.verified-cache.ttl-seconds:300}") long verifiedCacheTtlSeconds
+    ) {
+        this.signingKey = new SecretKeySpec(Decoders.BASE64.decode(secretKey), "HmacSHA256");
+        this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(verifiedCacheTtlSeconds))
+                .build();
+    }
 
     // Access Token 생성
     public String generateAccessToken(Map<String, String> claims) {
@@ -26,10 +55,11 @@ public class JwtTokenUtil {
 
         return Jwts.builder()
                 .claim("memberEmail", memberEmail) // 클레임 추가(이메일)
-                .setExpiration(expirationDate) // 만료시간
-                .setIssuer("BlueCotton")
-                .signWith(SignatureAlgorithm.HS256, secretKey) // SHA-256 알고리즘
-                .setHeaderParam("type", "JWT") // JWT 타입
+                .claim("memberId", toMemberId(claims)) // 클레임 추가(회원 ID, 없으면 생략)
+                .expiration(expirationDate) // 만료시간
+                .issuer("BlueCotton")
+                .signWith(signingKey, Jwts.SIG.HS256) // SHA-256 알고리즘
+                .header().add("type", "JWT").and() // JWT 타입
                 .compact(); // 생성
     }
 
@@ -42,51 +72,41 @@ public class JwtTokenUtil {
 
         return Jwts.builder()
                 .claim("memberEmail", memberEmail) // 클레임 추가(이메일)
-                .setExpiration(expirationDate) // 만료시간
-                .setIssuer("BlueCotton")
-                .signWith(SignatureAlgorithm.HS256, secretKey) // SHA-256 알고리즘
-                .setHeaderParam("type", "JWT") // JWT 타입
+                .claim("memberId", toMemberId(claims)) // 클레임 추가(회원 ID, 없으면 생략)
+                .expiration(expirationDate) // 만료시간
+                .issuer("BlueCotton")
+                .signWith(signingKey, Jwts.SIG.HS256) // SHA-256 알고리즘
+                .header().add("type", "JWT").and() // JWT 타입
                 .compact(); // 생성
     }
 
     // 토큰이 유효한지 검사
     public boolean verifyJwtToken(String token) {
-        try {
-            Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException e) { // 파싱이 안될 때
-            return false;
-        } catch (JwtException | IllegalArgumentException e) { // 변조된 토큰, 잘못된 토큰
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
+        return getMemberEmailFromToken(token) != null;
     }
 
-    // 토큰으로 이메일 정보를 추출
+    // 토큰으로 이메일 정보를 추출 (만료 / 변조된 토큰이면 null)
     public Claims getMemberEmailFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parse(token);
         } catch (Exception e) {
             return null;
         }
     }
 
+    // 클레임의 회원 ID (회원 ID 클레임이 없던 이전 토큰이면 null)
+    public Long getMemberIdFromClaims(Claims claims) {
+        if (claims == null) {
+            return null;
+        }
+        Number memberId = claims.get("memberId", Number.class);
+        return memberId == null ? null : memberId.longValue();
+    }
+
     // 토큰의 남은 시간을 확인
     public Long getTokenExpiry(String token){
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            Claims claims = parse(token);
 
             Date expiration = claims.getExpiration();
             Date now = new Date();
@@ -100,4 +120,50 @@ public class JwtTokenUtil {
         }
     }
 
+    // 블랙리스트 / 로그아웃 처리된 토큰은 검증 캐시에서 뺀다
+    public void invalidate(String token) {
+        if (token != null && !token.isEmpty()) {
+            verifiedTokens.invalidate(hash(token));
+        }
+    }
+
+    //  검증 캐시에 들어 있는지 (테스트 확인용)
+    boolean isCached(String token) {
+        return verifiedTokens.getIfPresent(hash(token)) != null;
+    }
+
+    private Claims parse(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("토큰 없음");
+        }
+        String key = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            Date expiration = cached.getExpiration();
+            if (expiration == null || expiration.after(new Date())) {
+                return cached;
+            }
+            verifiedTokens.invalidate(key);
+            throw new ExpiredJwtException(null, cached, "만료된 토큰");
+        }
+        Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
+    private Long toMemberId(Map<String, String> claims) {
+        String memberId = claims.get("memberId");
+        return memberId == null ? null : Long.valueOf(memberId);
+    }
+
+    //  토큰 원문 대신 SHA-256 해시를 키로 둔다
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
 }
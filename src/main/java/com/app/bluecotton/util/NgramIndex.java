@@ -0,0 +1,203 @@
+package com.app.bluecotton.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//  메모리 bigram 역색인
+//  한글은 띄어쓰기 단위 토큰화가 잘 맞지 않아서 2글자씩 잘라 색인하고,
+//  bigram 교집합으로 후보를 좁힌 뒤 원문 포함 여부를 한 번 더 확인해 LIKE '%q%' 와 같은 결과를 낸다
+public class NgramIndex {
+
+    //  필드 경계를 넘어서 매칭되지 않도록 필드 사이에 넣는 구분자
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Map<String, Set<Long>> postings = new HashMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    private volatile boolean ready = false;
+
+    //  문서 추가/갱신 (attributes 는 카테고리 같은 정확히 일치 필터용)
+    public void put(Long id, Map<String, String> attributes, String... fields) {
+        Document document = new Document(normalizeFields(fields), normalizeAttributes(attributes));
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, document);
+            for (String gram : grams(document.text)) {
+                postings.computeIfAbsent(gram, (key) -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //  전체 재색인 : 새 색인을 따로 만든 뒤 한 번에 교체
+    public void replaceAll(Map<Long, Map<String, String>> attributes, Map<Long, String[]> fields) {
+        Map<String, Set<Long>> newPostings = new HashMap<>();
+        Map<Long, Document> newDocuments = new HashMap<>();
+        fields.forEach((id, values) -> {
+            Document document = new Document(normalizeFields(values), normalizeAttributes(attributes.get(id)));
+            newDocuments.put(id, document);
+            for (String gram : grams(document.text)) {
+                newPostings.computeIfAbsent(gram, (key) -> new HashSet<>()).add(id);
+            }
+        });
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //  첫 색인이 끝나기 전에는 호출하는 쪽에서 DB 검색으로 대체
+    public boolean isReady() {
+        return ready;
+    }
+
+    //  keyword 를 포함하고 filters 와 일치하는 문서 ID (ID 내림차순)
+    //  filters 의 값이 null 이면 해당 필터는 무시
+    public List<Long> search(String keyword, Map<String, String> filters) {
+        String normalized = keyword == null ? "" : keyword;
+        Map<String, String> normalizedFilters = normalizeAttributes(filters);
+
+        lock.readLock().lock();
+        try {
+            List<Long> result = new ArrayList<>();
+            for (Long id : candidates(normalized)) {
+                Document document = documents.get(id);
+                if (document != null && document.text.contains(normalized) && document.matches(normalizedFilters)) {
+                    result.add(id);
+                }
+            }
+            result.sort(Comparator.reverseOrder());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int count(String keyword, Map<String, String> filters) {
+        return search(keyword, filters).size();
+    }
+
+    //  bigram 교집합 (짧은 posting 부터 교차). 한 글자 검색어는 bigram 이 없어서 전체 문서를 확인
+    private Set<Long> candidates(String keyword) {
+        if (keyword.length() < 2) {
+            return documents.keySet();
+        }
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(keyword)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private void removeInternal(Long id) {
+        Document old = documents.remove(id);
+        if (old == null) {
+            return;
+        }
+        for (String gram : grams(old.text)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new TreeSet<>();
+        for (int i = 0; i + 2 <= text.length(); i++) {
+            if (text.charAt(i) == FIELD_SEPARATOR || text.charAt(i + 1) == FIELD_SEPARATOR) {
+                continue;
+            }
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    //  필터(카테고리 등)만 대소문자 구분 없이 비교
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String normalizeFields(String[] fields) {
+        StringBuilder builder = new StringBuilder();
+        for (String field : fields) {
+            if (builder.length() > 0) {
+                builder.append(FIELD_SEPARATOR);
+            }
+            //  LIKE 와 같이 대소문자를 구분한다
+            builder.append(field == null ? "" : field);
+        }
+        return builder.toString();
+    }
+
+    private static Map<String, String> normalizeAttributes(Map<String, String> attributes) {
+        Map<String, String> normalized = new HashMap<>();
+        if (attributes != null) {
+            attributes.forEach((key, value) -> {
+                if (value != null) {
+                    normalized.put(key, normalize(value));
+                }
+            });
+        }
+        return normalized;
+    }
+
+    private static class Document {
+        private final String text;
+        private final Map<String, String> attributes;
+
+        private Document(String text, Map<String, String> attributes) {
+            this.text = text;
+            this.attributes = attributes;
+        }
+
+        private boolean matches(Map<String, String> filters) {
+            for (Map.Entry<String, String> filter : filters.entrySet()) {
+                if (!Objects.equals(attributes.get(filter.getKey()), filter.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.app.bluecotton.util;
+
+import com.app.bluecotton.repository.FlushBatchDAO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+//  write-behind 해시 반영 (조회수 / 좋아요 / 최근 본 글)
+//  누적 해시(pending)를 반영용 해시(flushing)로 옮길 때 묶음 ID 를 붙이고, DB 반영과 같은 트랜잭션에 묶음 ID 를 기록한다
+//  커밋 뒤 반영용 해시 삭제가 실패해 다음 주기에 같은 해시가 남아 있어도 기록된 묶음이면 다시 반영하지 않고 지우기만 한다
+//  롤백되면 반영용 해시를 남겨 다음 주기에 다시 반영하고, 락을 잡은 서버 한 곳만 반영해 중복 반영을 막는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisHashDrainer {
+
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String BATCH_SUFFIX = ":batch";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    //  KEYS[1] 누적, KEYS[2] 반영용, KEYS[3] 묶음 ID / ARGV[1] 새 묶음 ID
+    //  이전 반영이 실패해 남은 반영용 해시가 있으면 그대로, 없으면 누적 해시를 옮기고 묶음 ID 를 붙인다
+    //  누적 해시가 없으면 0 (RENAMENX 는 원본이 없으면 오류를 낸다)
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then "
+                    + "redis.call('SET', KEYS[3], ARGV[1], 'NX') "
+                    + "return 1 "
+                    + "end "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+                    + "redis.call('RENAME', KEYS[1], KEYS[2]) "
+                    + "redis.call('SET', KEYS[3], ARGV[1]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final FlushBatchDAO flushBatchDAO;
+
+    //  반영할 값이 있어 apply 를 호출했으면 true (호출하는 쪽의 트랜잭션 안에서 불러야 한다)
+    public boolean drain(String pendingKey, String flushingKey, Consumer<Map<String, String>> apply) {
+        String lockKey = flushingKey + LOCK_SUFFIX;
+        String batchKey = flushingKey + BATCH_SUFFIX;
+        String token = redisLock.tryLock(lockKey, LOCK_TTL);
+        if (token == null) {
+            //  다른 서버가 반영 중
+            return false;
+        }
+
+        boolean registered = false;
+        try {
+            Long moved = redisTemplate.execute(MOVE_SCRIPT, List.of(pendingKey, flushingKey, batchKey), UUID.randomUUID().toString());
+            if (moved == null || moved == 0L) {
+                return false;
+            }
+
+            String batchId = redisTemplate.opsForValue().get(batchKey);
+            boolean applied = false;
+            if (batchId != null && batchId.equals(flushBatchDAO.findBatchId(flushingKey))) {
+                //  이미 커밋된 묶음 - 지우기만 한다
+                log.info("이미 반영된 해시 정리: {} ({})", flushingKey, batchId);
+            } else {
+                HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+                Map<String, String> entries = hash.entries(flushingKey);
+                if (!entries.isEmpty()) {
+                    apply.accept(entries);
+                    applied = true;
+                }
+                flushBatchDAO.saveBatchId(flushingKey, batchId);
+            }
+
+            TransactionCallbacks.afterCompletion(
+                    () -> {
+                        try {
+                            redisTemplate.delete(List.of(flushingKey, batchKey));
+                        } catch (Exception e) {
+                            log.warn("반영 완료 해시 삭제 실패: {}", flushingKey, e);
+                        } finally {
+                            redisLock.unlock(lockKey, token);
+                        }
+                    },
+                    () -> redisLock.unlock(lockKey, token)
+            );
+            registered = true;
+            return applied;
+        } finally {
+            //  반영 중 예외 - 반영용 해시는 남기고 락만 푼다
+            if (!registered) {
+                redisLock.unlock(lockKey, token);
+            }
+        }
+    }
+
+    //  반영용 해시가 이미 DB 에 커밋됐는지 (커밋 뒤 해시를 지우기 전까지는 DB 값과 겹친다)
+    public boolean isApplied(String flushingKey) {
+        String batchId = redisTemplate.opsForValue().get(flushingKey + BATCH_SUFFIX);
+        return batchId != null && batchId.equals(flushBatchDAO.findBatchId(flushingKey));
+    }
+}
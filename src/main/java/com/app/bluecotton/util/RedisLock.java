@@ -0,0 +1,45 @@
+package com.app.bluecotton.util;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+//  여러 서버 중 한 곳에서만 실행할 작업용 Redis 락 (SET NX + 토큰)
+//  TTL 이 지나 다른 서버가 잡은 락을 지우지 않도록 토큰이 같을 때만 푼다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    //  KEYS[1] 락 / ARGV[1] 토큰
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    //  잡으면 토큰, 이미 다른 곳이 잡고 있으면 null
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void unlock(String key, String token) {
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            //  못 풀어도 TTL 이 지나면 풀린다
+            log.warn("락 해제 실패: {}", key, e);
+        }
+    }
+}
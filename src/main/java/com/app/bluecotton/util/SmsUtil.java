@@ -1,16 +1,17 @@
 package com.app.bluecotton.util;
 
-import jakarta.annotation.PostConstruct;
+import com.app.bluecotton.domain.dto.MailMessageDTO;
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import java.io.UnsupportedEncodingException;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -24,30 +25,21 @@ public class SmsUtil {
 
     private final JavaMailSenderImpl mailSender;
 
-    // 인증코드 8자리 전송 및 Session에 저장
-    public String saveAuthentificationCode(HttpSession session){
-        String authentificationCode = RandomStringUtils.randomAlphanumeric(8);
-        session.setAttribute("authentificationCode", authentificationCode);
-        return authentificationCode;
-    }
-
-    // 전달받은 인증코드를 이메일로 전송
-    public void sendEmail(String toEmail, String verificationCode){
-        try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
+    // 발송 대기열의 메일로 MimeMessage 작성
+    public MimeMessage createMessage(MailMessageDTO mailMessageDTO) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
 
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
-            helper.setTo(toEmail);
-            helper.setSubject("[blue cotton] 인증코드 발송 이메일입니다.");
-            helper.setText("[blue cotton]\n 아래의 인증코드를 입력해주세요\n" + verificationCode, true); // HTML 가능
-            helper.setFrom("yunhanmin@gmail.com", "한민");
-
-            mailSender.send(mimeMessage);
-
-        } catch (Exception e) {
-            throw new RuntimeException("메일 전송 실패: " + e.getMessage());
-        }
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, false, "UTF-8");
+        helper.setTo(mailMessageDTO.getTo());
+        helper.setSubject(mailMessageDTO.getSubject());
+        helper.setText(mailMessageDTO.getText(), true); // HTML 가능
+        helper.setFrom("yunhanmin@gmail.com", "한민");
+        return mimeMessage;
     }
 
+    // 여러 메일을 SMTP 연결 하나로 전송 (실패한 메일은 MailSendException 에 담긴다)
+    public void send(MimeMessage... mimeMessages) {
+        mailSender.send(mimeMessages);
+    }
 
 }
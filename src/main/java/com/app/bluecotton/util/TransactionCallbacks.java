@@ -0,0 +1,43 @@
+package com.app.bluecotton.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//  트랜잭션 결과에 맞춰 Redis / 메모리 상태를 반영하는 콜백
+//  트랜잭션 밖에서 호출되면 커밋된 것으로 보고 바로 실행한다
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    //  커밋된 뒤에만 실행 (롤백된 변경이 남지 않도록)
+    public static void afterCommit(Runnable task) {
+        afterCompletion(task, null);
+    }
+
+    //  롤백됐을 때만 실행 (먼저 잡아 둔 자리 / 값을 되돌릴 때)
+    public static void afterRollback(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            afterCompletion(null, task);
+        }
+    }
+
+    //  커밋되면 onCommit, 롤백되면 onRollback (없으면 null)
+    public static void afterCompletion(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (onCommit != null) {
+                onCommit.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                Runnable task = status == STATUS_COMMITTED ? onCommit : onRollback;
+                if (task != null) {
+                    task.run();
+                }
+            }
+        });
+    }
+}
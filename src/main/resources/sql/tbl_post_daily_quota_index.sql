@@ -0,0 +1,3 @@
+-- 하루 한 솜 한 게시글 확인용 인덱스
+-- existsTodayPostInSom 은 POST_CREATE_AT 을 오늘 00:00 ~ 내일 00:00 범위로 비교하므로 회원 / 솜 / 작성일 순서로 범위 스캔
+CREATE INDEX IDX_POST_MEMBER_SOM_CREATE_AT ON TBL_POST (MEMBER_ID, SOM_ID, POST_CREATE_AT);
@@ -0,0 +1,6 @@
+-- 게시글 목록 커서 페이징용 인덱스
+-- latest 정렬은 (POST_CREATE_AT, ID) 로 이어 읽으므로 같은 순서의 인덱스를 타고 필요한 행만 읽는다
+CREATE INDEX IDX_POST_CREATE_AT_ID ON TBL_POST (POST_CREATE_AT DESC, ID DESC);
+
+-- view 정렬용
+CREATE INDEX IDX_POST_READ_COUNT_ID ON TBL_POST (POST_READ_COUNT DESC, ID DESC);
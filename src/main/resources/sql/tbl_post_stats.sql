@@ -0,0 +1,19 @@
+-- 게시글 좋아요 / 댓글(+답글) 수 집계 테이블
+-- postMapper.select 의 인기순, 댓글순 정렬에서 사용
+CREATE TABLE TBL_POST_STATS (
+    POST_ID            NUMBER PRIMARY KEY,
+    POST_LIKE_COUNT    NUMBER DEFAULT 0 NOT NULL,
+    POST_COMMENT_COUNT NUMBER DEFAULT 0 NOT NULL,
+    CONSTRAINT FK_POST_STATS_POST FOREIGN KEY (POST_ID) REFERENCES TBL_POST (ID) ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_POST_STATS_LIKE ON TBL_POST_STATS (POST_LIKE_COUNT DESC, POST_ID DESC);
+CREATE INDEX IDX_POST_STATS_COMMENT ON TBL_POST_STATS (POST_COMMENT_COUNT DESC, POST_ID DESC);
+
+-- 기존 게시글 초기 적재
+INSERT INTO TBL_POST_STATS (POST_ID, POST_LIKE_COUNT, POST_COMMENT_COUNT)
+SELECT TBP.ID,
+       (SELECT COUNT(*) FROM TBL_POST_LIKE L WHERE L.POST_ID = TBP.ID),
+       (SELECT COUNT(*) FROM TBL_POST_COMMENT C WHERE C.POST_ID = TBP.ID)
+       + (SELECT COUNT(*) FROM TBL_POST_REPLY R JOIN TBL_POST_COMMENT C ON R.POST_COMMENT_ID = C.ID WHERE C.POST_ID = TBP.ID)
+FROM TBL_POST TBP;
@@ -0,0 +1,8 @@
+-- Redis write-behind 반영 기록 (조회수 / 좋아요 / 최근 본 글)
+-- 반영용 해시마다 마지막으로 반영한 묶음 ID 를 반영과 같은 트랜잭션에 남긴다
+-- 커밋 뒤 반영용 해시 삭제가 실패해도 다음 주기에 같은 묶음을 다시 더하지 않는다
+CREATE TABLE TBL_REDIS_FLUSH_BATCH (
+    FLUSH_KEY  VARCHAR2(100) PRIMARY KEY,
+    BATCH_ID   VARCHAR2(36) NOT NULL,
+    FLUSHED_AT DATE DEFAULT SYSDATE NOT NULL
+);
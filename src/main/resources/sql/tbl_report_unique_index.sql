@@ -0,0 +1,16 @@
+-- 신고 중복 방지용 유니크 인덱스 (대상 + 회원 한 건)
+-- 동시에 들어온 MERGE 가 둘 다 통과해도 한쪽은 여기서 막히고 ReportServiceImpl 이 이미 신고한 것으로 처리
+-- 만들기 전에 기존 중복 행을 먼저 정리한다 (가장 먼저 들어온 신고만 남김)
+DELETE FROM TBL_POST_REPORT
+WHERE ID NOT IN (SELECT MIN(ID) FROM TBL_POST_REPORT GROUP BY POST_ID, MEMBER_ID);
+DELETE FROM TBL_POST_COMMENT_REPORT
+WHERE ID NOT IN (SELECT MIN(ID) FROM TBL_POST_COMMENT_REPORT GROUP BY POST_COMMENT_ID, MEMBER_ID);
+DELETE FROM TBL_POST_REPLY_REPORT
+WHERE ID NOT IN (SELECT MIN(ID) FROM TBL_POST_REPLY_REPORT GROUP BY POST_REPLY_ID, MEMBER_ID);
+DELETE FROM TBL_PRODUCT_REVIEW_REPORT
+WHERE ID NOT IN (SELECT MIN(ID) FROM TBL_PRODUCT_REVIEW_REPORT GROUP BY PRODUCT_REVIEW_ID, MEMBER_ID);
+
+CREATE UNIQUE INDEX UK_POST_REPORT_MEMBER ON TBL_POST_REPORT (POST_ID, MEMBER_ID);
+CREATE UNIQUE INDEX UK_POST_COMMENT_REPORT_MEMBER ON TBL_POST_COMMENT_REPORT (POST_COMMENT_ID, MEMBER_ID);
+CREATE UNIQUE INDEX UK_POST_REPLY_REPORT_MEMBER ON TBL_POST_REPLY_REPORT (POST_REPLY_ID, MEMBER_ID);
+CREATE UNIQUE INDEX UK_PRODUCT_REVIEW_REPORT_MEMBER ON TBL_PRODUCT_REVIEW_REPORT (PRODUCT_REVIEW_ID, MEMBER_ID);
@@ -0,0 +1,68 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.MailMessageDTO;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+//  로컬 SMTP(GreenMail) 로 메일 발송 대기열 확인
+//  스케줄러는 끄고, 대기열 키는 테스트마다 따로 써서 공용 대기열에 남은 메일과 섞이지 않게 한다
+@SpringBootTest(properties = "scheduling.enabled=false")
+@Slf4j
+class MailOutboxServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+    @DynamicPropertySource
+    static void mailProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.host", () -> "localhost");
+        registry.add("spring.mail.port", () -> ServerSetupTest.SMTP.getPort());
+        registry.add("spring.mail.properties.mail.smtp.auth", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.enable", () -> "false");
+        registry.add("spring.mail.properties.mail.smtp.starttls.required", () -> "false");
+        registry.add("mail.outbox.key", () -> "test:mail:outbox:" + UUID.randomUUID());
+    }
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private VerificationCodeService verificationCodeService;
+
+    @Test
+    void dispatchQueuedMail() throws Exception {
+        mailOutboxService.enqueue(MailMessageDTO.of("test123@gmail.com", "[blue cotton] 테스트", "본문"));
+        assertEquals(1, mailOutboxService.dispatch());
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(1, received.length);
+        assertEquals("[blue cotton] 테스트", received[0].getSubject());
+        //  대기열이 비었으면 더 꺼낼 메일이 없다
+        assertEquals(0, mailOutboxService.dispatch());
+    }
+
+    @Test
+    void verifyCode() {
+        String code = verificationCodeService.issue("test123@gmail.com");
+
+        assertFalse(verificationCodeService.verify("test123@gmail.com", "wrong"));
+        assertTrue(verificationCodeService.verify("TEST123@gmail.com", code));
+        //  한 번 확인한 코드는 다시 쓸 수 없다
+        assertFalse(verificationCodeService.verify("test123@gmail.com", code));
+    }
+}
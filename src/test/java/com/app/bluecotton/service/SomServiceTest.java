@@ -0,0 +1,77 @@
+package com.app.bluecotton.service;
+
+import com.app.bluecotton.domain.dto.SomResponseDTO;
+import com.app.bluecotton.mapper.MemberMapper;
+import com.app.bluecotton.mapper.MyPageSomMapper;
+import com.app.bluecotton.mapper.SomImageMapper;
+import com.app.bluecotton.mapper.SomMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@Slf4j
+class SomServiceTest {
+
+    @Autowired
+    private SomService somService;
+
+    @MockitoSpyBean
+    private SomMapper somMapper;
+
+    @MockitoSpyBean
+    private SomImageMapper somImageMapper;
+
+    @MockitoSpyBean
+    private MemberMapper memberMapper;
+
+    @MockitoSpyBean
+    private MyPageSomMapper myPageSomMapper;
+
+    //  솜 목록 한 페이지의 매퍼 호출 수는 행 수와 무관해야 한다
+    @Test
+    void findByCategoryAndTypeQueryCount() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("somCategory", "all");
+        params.put("somType", "all");
+        params.put("page", 1);
+        params.put("memberEmail", "test123@gmail.com");
+        params.put("somKeyword", "");
+
+        Mockito.clearInvocations(somMapper, somImageMapper, memberMapper, myPageSomMapper);
+        List<SomResponseDTO> somList = somService.findByCategoryAndType(params);
+        log.info("som list size: {}", somList.size());
+
+        int invocationCount = Mockito.mockingDetails(somMapper).getInvocations().size()
+                + Mockito.mockingDetails(somImageMapper).getInvocations().size()
+                + Mockito.mockingDetails(memberMapper).getInvocations().size()
+                + Mockito.mockingDetails(myPageSomMapper).getInvocations().size();
+        log.info("mapper invocations per page: {}", invocationCount);
+
+        assertTrue(invocationCount <= 8);
+        verify(somImageMapper, never()).selectImagesBySomId(anyLong());
+        verify(somMapper, never()).selectAllSomJoinList(anyLong());
+        verify(somMapper, never()).selectIsSomLike(any());
+        verify(memberMapper, never()).selectById(anyLong());
+        verify(memberMapper, never()).selectMemberProfileImage(anyLong());
+        verify(myPageSomMapper, never()).readSomReview(anyLong());
+        verify(memberMapper, atMostOnce()).selectIdByEmail(anyString());
+
+        somList.forEach((som) -> {
+            assertNotNull(som.getMemberSomLeader());
+            assertNotNull(som.getSomJoinList());
+            assertFalse(som.getSomImageList().isEmpty());
+        });
+    }
+}
@@ -1,11 +1,18 @@
 package com.app.bluecotton.util;
 
 import com.app.bluecotton.domain.vo.member.MemberVO;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +25,9 @@ class JwtTokenUtilTest {
     @Autowired
     private JwtTokenUtil jwtTokenUtil;
 
+    @Value("${jwt.secret}")
+    private String secretKey;
+
     @Test
     public void generateToken() {
         Map<String, String> claims = new HashMap<>();
@@ -25,4 +35,56 @@ class JwtTokenUtilTest {
         String token = jwtTokenUtil.generateRefreshToken(claims);
         log.info("claims: {}", jwtTokenUtil.getMemberEmailFromToken(token));
     }
+
+    @Test
+    public void verifyCachedToken() {
+        Map<String, String> claims = new HashMap<>();
+        claims.put("memberEmail", "test123@gmail.com");
+        String token = jwtTokenUtil.generateAccessToken(claims);
+
+        Claims first = jwtTokenUtil.getMemberEmailFromToken(token);
+        assertTrue(jwtTokenUtil.isCached(token));
+        //  두 번째는 검증 캐시에서 같은 Claims 를 꺼낸다
+        assertSame(first, jwtTokenUtil.getMemberEmailFromToken(token));
+        assertEquals("test123@gmail.com", first.get("memberEmail"));
+        assertTrue(jwtTokenUtil.getTokenExpiry(token) > 0);
+
+        //  invalidate 후에는 다시 검증해서 새 Claims 를 캐시에 넣는다
+        jwtTokenUtil.invalidate(token);
+        assertFalse(jwtTokenUtil.isCached(token));
+        assertNotSame(first, jwtTokenUtil.getMemberEmailFromToken(token));
+        assertTrue(jwtTokenUtil.isCached(token));
+    }
+
+    @Test
+    public void rejectExpiredCachedToken() throws InterruptedException {
+        SecretKey key = new SecretKeySpec(Decoders.BASE64.decode(secretKey), "HmacSHA256");
+        String token = Jwts.builder()
+                .claim("memberEmail", "test123@gmail.com")
+                .expiration(new Date(System.currentTimeMillis() + 1500))
+                .issuer("BlueCotton")
+                .signWith(key, Jwts.SIG.HS256)
+                .compact();
+
+        assertTrue(jwtTokenUtil.verifyJwtToken(token));
+        assertTrue(jwtTokenUtil.isCached(token));
+
+        Thread.sleep(2000);
+
+        //  캐시에 남아 있어도 만료 시간이 지나면 거부하고 캐시에서 뺀다
+        assertFalse(jwtTokenUtil.verifyJwtToken(token));
+        assertFalse(jwtTokenUtil.isCached(token));
+        assertEquals(0L, jwtTokenUtil.getTokenExpiry(token));
+    }
+
+    @Test
+    public void rejectTamperedToken() {
+        Map<String, String> claims = new HashMap<>();
+        claims.put("memberEmail", "test123@gmail.com");
+        String token = jwtTokenUtil.generateAccessToken(claims);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertFalse(jwtTokenUtil.verifyJwtToken(tampered));
+        assertNull(jwtTokenUtil.getMemberEmailFromToken(tampered));
+    }
 }
\ No newline at end of file
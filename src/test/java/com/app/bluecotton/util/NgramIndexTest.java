@@ -0,0 +1,78 @@
+package com.app.bluecotton.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Slf4j
+class NgramIndexTest {
+
+    private NgramIndex buildIndex() {
+        Map<Long, Map<String, String>> attributes = new HashMap<>();
+        Map<Long, String[]> fields = new HashMap<>();
+        attributes.put(1L, Map.of("somCategory", "study"));
+        fields.put(1L, new String[]{"오늘의 공부 기록", "자바 스터디 3일차", "파란솜"});
+        attributes.put(2L, Map.of("somCategory", "health"));
+        fields.put(2L, new String[]{"아침 러닝", "공원 5km 달리기", "러너"});
+        attributes.put(3L, Map.of("somCategory", "study"));
+        fields.put(3L, new String[]{"Spring 공부", "MyBatis 매퍼 정리", "파란솜"});
+
+        NgramIndex index = new NgramIndex();
+        index.replaceAll(attributes, fields);
+        return index;
+    }
+
+    //  LIKE '%q%' 와 같은 결과를 ID 내림차순으로
+    @Test
+    void search() {
+        NgramIndex index = buildIndex();
+        assertEquals(List.of(3L, 1L), index.search("공부", Map.of()));
+        assertEquals(List.of(3L), index.search("Spring", Map.of()));
+        assertEquals(List.of(2L), index.search("달", Map.of()));
+        assertTrue(index.search("공부 달리기", Map.of()).isEmpty());
+    }
+
+    //  LIKE 와 같이 대소문자를 구분한다
+    @Test
+    void searchIsCaseSensitive() {
+        NgramIndex index = buildIndex();
+        assertTrue(index.search("spring", Map.of()).isEmpty());
+        assertEquals(List.of(3L), index.search("MyBatis", Map.of()));
+        assertTrue(index.search("mybatis", Map.of()).isEmpty());
+    }
+
+    //  필드 경계를 넘는 매칭은 하지 않는다 ("기록" + "자바")
+    @Test
+    void searchDoesNotCrossFields() {
+        NgramIndex index = buildIndex();
+        assertTrue(index.search("록자", Map.of()).isEmpty());
+    }
+
+    @Test
+    void searchWithFilter() {
+        NgramIndex index = buildIndex();
+        Map<String, String> filters = new HashMap<>();
+        filters.put("somCategory", "STUDY");
+        assertEquals(List.of(3L, 1L), index.search("파란솜", filters));
+        filters.put("somCategory", "health");
+        assertTrue(index.search("파란솜", filters).isEmpty());
+    }
+
+    @Test
+    void putAndRemove() {
+        NgramIndex index = buildIndex();
+        index.put(4L, Map.of("somCategory", "study"), "공부 인증", "", "파란솜");
+        assertEquals(List.of(4L, 3L, 1L), index.search("공부", Map.of()));
+
+        index.put(4L, Map.of("somCategory", "study"), "독서 인증", "", "파란솜");
+        assertEquals(List.of(3L, 1L), index.search("공부", Map.of()));
+
+        index.remove(3L);
+        assertEquals(List.of(1L), index.search("공부", Map.of()));
+    }
+}